@@ -0,0 +1,67 @@
+package bench;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+
+// Ponte para as classes da aplicação, que estão no pacote padrão e não podem ser
+// importadas daqui: tudo é resolvido uma vez por MethodHandles públicos.
+final class App {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.publicLookup();
+
+    static final MethodHandle SORT;               // SortingAlgorithm.sort(List, String)
+    static final MethodHandle GET_ALGORITHM;      // MainController.getAlgorithm(String)
+    static final MethodHandle PREPARE_TEST_DATA;  // MainController.prepareTestData(String, int)
+    static final MethodHandle EXECUTE_KERNEL;     // AnalyticsEngine.executeAlgorithm(String, int[])
+    static final MethodHandle GENERATE_TEST_DATA; // AnalyticsEngine.generateTestData(String, int)
+    static final MethodHandle SHUTDOWN_ENGINE;    // AnalyticsEngine.shutdown()
+    static final MethodHandle COLUMNAR_FROM_LIST; // ColumnarImageStore.fromList(List)
+    static final MethodHandle COLUMNAR_SORT;      // ColumnarImageStore.sort(String)
+
+    private static final MethodHandle NEW_CONTROLLER;
+    private static final MethodHandle NEW_ENGINE;
+    private static Object controller;
+
+    static {
+        try {
+            Class<?> algorithm = Class.forName("SortingAlgorithm");
+            Class<?> controllerType = Class.forName("MainController");
+            Class<?> engineType = Class.forName("AnalyticsEngine");
+            Class<?> storeType = Class.forName("ColumnarImageStore");
+
+            SORT = LOOKUP.findVirtual(algorithm, "sort",
+                MethodType.methodType(void.class, List.class, String.class));
+            GET_ALGORITHM = LOOKUP.findVirtual(controllerType, "getAlgorithm",
+                MethodType.methodType(algorithm, String.class));
+            PREPARE_TEST_DATA = LOOKUP.findVirtual(controllerType, "prepareTestData",
+                MethodType.methodType(List.class, String.class, int.class));
+            EXECUTE_KERNEL = LOOKUP.findVirtual(engineType, "executeAlgorithm",
+                MethodType.methodType(int[].class, String.class, int[].class));
+            GENERATE_TEST_DATA = LOOKUP.findVirtual(engineType, "generateTestData",
+                MethodType.methodType(int[].class, String.class, int.class));
+            SHUTDOWN_ENGINE = LOOKUP.findVirtual(engineType, "shutdown", MethodType.methodType(void.class));
+            COLUMNAR_FROM_LIST = LOOKUP.findStatic(storeType, "fromList", MethodType.methodType(storeType, List.class));
+            COLUMNAR_SORT = LOOKUP.findVirtual(storeType, "sort", MethodType.methodType(void.class, String.class));
+            NEW_CONTROLLER = LOOKUP.findConstructor(controllerType, MethodType.methodType(void.class));
+            NEW_ENGINE = LOOKUP.findConstructor(engineType, MethodType.methodType(void.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private App() {}
+
+    // Um MainController por JVM (cada fork do JMH): carrega os algoritmos e os dados
+    // externos uma vez, sem abrir a janela
+    static synchronized Object controller() throws Throwable {
+        if (controller == null) {
+            controller = NEW_CONTROLLER.invoke();
+        }
+        return controller;
+    }
+
+    static Object newEngine() throws Throwable {
+        return NEW_ENGINE.invoke();
+    }
+}
@@ -0,0 +1,65 @@
+package bench;
+
+import java.lang.invoke.MethodHandle;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// ColumnarImageStore.sort sobre os mesmos dados e critérios do SortingBenchmark: compare
+// com -p algorithm=... de lá para o custo da List de SatelliteImage
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx6g", "-Djava.awt.headless=true"})
+public class ColumnarBenchmark {
+
+    @Param({"random", "sorted", "reversed", "nearlySorted", "external"})
+    public String dataType;
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    @Param({"id", "timestamp", "latitude", "longitude", "quality", "region", "regionQualityNewest"})
+    public String criteria;
+
+    private Object store;
+    private MethodHandle sort;
+    private String sortCriteria;
+
+    @Setup(Level.Trial)
+    public void setup() throws Throwable {
+        String type = SortingBenchmark.DATA_TYPES.get(dataType);
+        if (type == null) {
+            throw new IllegalArgumentException("Tipo de dados desconhecido: " + dataType + " (use " + SortingBenchmark.DATA_TYPES.keySet() + ")");
+        }
+        List<?> data = (List<?>) App.PREPARE_TEST_DATA.invoke(App.controller(), type, size);
+        if (data.size() != size) {
+            throw new IllegalStateException(type + " tem só " + data.size() + " imagens (pedido: " + size + ")");
+        }
+        store = App.COLUMNAR_FROM_LIST.invoke(data);
+        sort = App.COLUMNAR_SORT.bindTo(store);
+        sortCriteria = SortingBenchmark.CRITERIA.getOrDefault(criteria, criteria);
+    }
+
+    // sort() recomeça da ordem de inserção (a coluna de índices é reiniciada), então
+    // as colunas não precisam ser restauradas entre as invocações
+    @Benchmark
+    public Object sort() throws Throwable {
+        sort.invokeExact(sortCriteria);
+        return store;
+    }
+}
@@ -0,0 +1,64 @@
+package bench;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Kernels int[] do AnalyticsEngine, com os geradores de AnalyticsEngine.generateTestData
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx2g", "-Djava.awt.headless=true"})
+public class KernelBenchmark {
+
+    @Param({"Quick Sort", "Merge Sort", "Heap Sort", "Tim Sort", "Radix Sort", "Intro Sort",
+            "Dual-Pivot Quick Sort", "Block Sort"})
+    public String kernel;
+
+    @Param({"Random Data", "Sorted Data", "Reverse Sorted", "Nearly Sorted", "Gaussian Distribution"})
+    public String dataType;
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    private Object engine;
+    private MethodHandle execute;
+    private int[] input;
+    private int[] working;
+
+    @Setup(Level.Trial)
+    public void setup() throws Throwable {
+        engine = App.newEngine();
+        execute = MethodHandles.insertArguments(App.EXECUTE_KERNEL.bindTo(engine), 0, kernel);
+        input = (int[]) App.GENERATE_TEST_DATA.invoke(engine, dataType, size);
+        working = new int[size];
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Throwable {
+        App.SHUTDOWN_ENGINE.invoke(engine);
+    }
+
+    // Os kernels ordenam no próprio array: a entrada é restaurada com um arraycopy
+    @Benchmark
+    public int[] sort() throws Throwable {
+        System.arraycopy(input, 0, working, 0, size);
+        return (int[]) execute.invokeExact(working);
+    }
+}
@@ -0,0 +1,94 @@
+package bench;
+
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Todos os SortingAlgorithm registrados no MainController, sobre os tipos de dados de
+// prepareTestData, tamanhos de 1k a 10M e os critérios oferecidos na interface.
+// A matriz completa é grande: use -p para recortar (ex.: -p size=100000 -p criteria=id).
+// Os tipos de dados usam apelidos ASCII (terminais sem UTF-8 corrompem "Aleatório" no -p)
+// e o critério composto também (ex.: -p criteria=regionQualityNewest).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx6g", "-Djava.awt.headless=true"})
+public class SortingBenchmark {
+    static final Map<String, String> DATA_TYPES = Map.of(
+        "random", "Aleatório",
+        "sorted", "Ordenado",
+        "reversed", "Reverso",
+        "nearlySorted", "Quase Ordenado",
+        "external", "Externo");
+    // O -p do JMH separa valores por vírgula: critérios compostos entram por apelido
+    static final Map<String, String> CRITERIA = Map.of(
+        "regionQualityNewest", "region,quality,-timestamp");
+
+    @Param({"QuickSort", "MergeSort", "HeapSort", "TimSort", "ParallelMergeSort", "ParallelSampleSort",
+            "RadixSort", "MultikeyQuickSort", "IntroSort", "DualPivotQuickSort", "BlockSort", "Auto"})
+    public String algorithm;
+
+    @Param({"random", "sorted", "reversed", "nearlySorted", "external"})
+    public String dataType;
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    @Param({"id", "timestamp", "latitude", "longitude", "quality", "region", "regionQualityNewest"})
+    public String criteria;
+
+    private MethodHandle sort;
+    private String sortCriteria;
+    private List<Object> input;
+    private List<Object> working;
+
+    @Setup(Level.Trial)
+    public void setup() throws Throwable {
+        Object controller = App.controller();
+        Object instance = App.GET_ALGORITHM.invoke(controller, algorithm);
+        if (instance == null) {
+            throw new IllegalArgumentException("Algoritmo não registrado: " + algorithm);
+        }
+        sort = App.SORT.bindTo(instance);
+
+        String type = DATA_TYPES.get(dataType);
+        if (type == null) {
+            throw new IllegalArgumentException("Tipo de dados desconhecido: " + dataType + " (use " + DATA_TYPES.keySet() + ")");
+        }
+        List<?> data = (List<?>) App.PREPARE_TEST_DATA.invoke(controller, type, size);
+        if (data.size() != size) {
+            // "Externo" é limitado ao arquivo carregado: não publica número de outro tamanho
+            throw new IllegalStateException(type + " tem só " + data.size() + " imagens (pedido: " + size + ")");
+        }
+        sortCriteria = CRITERIA.getOrDefault(criteria, criteria);
+        input = new ArrayList<>(data);
+        working = new ArrayList<>(size);
+    }
+
+    // A entrada é restaurada dentro da medição (cópia O(n) de referências, pequena
+    // perto do O(n log n) da ordenação) para evitar o Level.Invocation do JMH
+    @Benchmark
+    public List<Object> sort() throws Throwable {
+        working.clear();
+        working.addAll(input);
+        sort.invokeExact(working, sortCriteria);
+        return working;
+    }
+}
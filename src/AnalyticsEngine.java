@@ -2,16 +2,19 @@ import java.io.*;
 import java.nio.file.*;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 
 public class AnalyticsEngine {
     private Map<String, AlgorithmStats> algorithmStats;
     private List<TestResult> testHistory;
     private ExecutorService executor;
+    private ScratchPool scratchPool;
     
     public AnalyticsEngine() {
         this.algorithmStats = new ConcurrentHashMap<>();
         this.testHistory = Collections.synchronizedList(new ArrayList<>());
         this.executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        this.scratchPool = new ScratchPool();
         initializeAlgorithms();
     }
     
@@ -28,27 +31,27 @@ public class AnalyticsEngine {
     }
     
     public TestResult runAlgorithmTest(String algorithmName, int[] data, TestConfig config) {
-        long startTime = System.nanoTime();
-        long memoryBefore = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
+        // A cópia fica fora da medição; o medidor é por thread, então testes
+        // concorrentes no pool não contaminam as alocações uns dos outros
+        int[] input = Arrays.copyOf(data, data.length);
+        ResourceMeter meter = ResourceMeter.start();
         
-        int[] sortedData = executeAlgorithm(algorithmName, Arrays.copyOf(data, data.length));
+        int[] sortedData = executeAlgorithm(algorithmName, input);
         
-        long endTime = System.nanoTime();
-        long memoryAfter = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
+        ResourceMeter.Usage usage = meter.stop();
         
         boolean success = isSorted(sortedData);
-        long executionTime = endTime - startTime;
-        long memoryUsed = memoryAfter - memoryBefore;
         
         TestResult result = new TestResult(
             algorithmName,
-            executionTime,
-            memoryUsed,
+            usage.getWallTimeNanos(),
+            Math.max(0, usage.getAllocatedBytes()),
             data.length,
             success,
             config.getScenario(),
             new Date()
         );
+        result.setResourceUsage(usage);
         
         // Atualizar estatísticas
         algorithmStats.get(algorithmName).addResult(result);
@@ -61,6 +64,9 @@ public class AnalyticsEngine {
         List<TestResult> results = new ArrayList<>();
         List<Future<TestResult>> futures = new ArrayList<>();
         
+        // Buffers dimensionados uma vez para a rodada; cada thread do executor reaproveita o seu
+        scratchPool.resize(data.length);
+        
         for (String algorithm : algorithmStats.keySet()) {
             futures.add(executor.submit(() -> 
                 runAlgorithmTest(algorithm, data, config)
@@ -75,10 +81,13 @@ public class AnalyticsEngine {
             }
         }
         
-        return new BenchmarkResult(results, config, new Date());
+        BenchmarkResult benchmark = new BenchmarkResult(results, config, new Date(),
+            scratchPool.getBufferCount(), scratchPool.getTotalBytes(), scratchPool.getHitRate());
+        System.out.println(benchmark);
+        return benchmark;
     }
     
-    private int[] executeAlgorithm(String algorithmName, int[] data) {
+    public int[] executeAlgorithm(String algorithmName, int[] data) {
         switch (algorithmName) {
             case "Quick Sort":
                 return quickSort(data);
@@ -145,7 +154,7 @@ public class AnalyticsEngine {
     private int[] mergeSort(int[] arr) {
         if (arr.length <= 1) return arr;
         
-        int[] temp = new int[arr.length];
+        int[] temp = scratchPool.acquire(arr.length);
         mergeSort(arr, temp, 0, arr.length - 1);
         return arr;
     }
@@ -216,12 +225,13 @@ public class AnalyticsEngine {
         }
         
         // Merge sorted subarrays
+        int[] temp = scratchPool.acquire(n);
         for (int size = RUN; size < n; size = 2 * size) {
             for (int left = 0; left < n; left += 2 * size) {
                 int mid = left + size - 1;
                 int right = Math.min(left + 2 * size - 1, n - 1);
                 if (mid < right) {
-                    merge(arr, new int[arr.length], left, mid, right);
+                    merge(arr, temp, left, mid, right);
                 }
             }
         }
@@ -232,16 +242,16 @@ public class AnalyticsEngine {
         if (arr.length == 0) return arr;
         
         int max = Arrays.stream(arr).max().getAsInt();
+        int[] output = scratchPool.acquire(arr.length);
         
         for (int exp = 1; max / exp > 0; exp *= 10) {
-            countingSort(arr, exp);
+            countingSort(arr, output, exp);
         }
         return arr;
     }
     
-    private void countingSort(int[] arr, int exp) {
+    private void countingSort(int[] arr, int[] output, int exp) {
         int n = arr.length;
-        int[] output = new int[n];
         int[] count = new int[10];
         
         for (int value : arr) {
@@ -353,25 +363,116 @@ public class AnalyticsEngine {
     }
     
     private int[] blockSort(int[] arr) {
-        // Simplified block sort implementation
-        int blockSize = (int) Math.sqrt(arr.length);
+        // Block sort estável e in-place: merges por rotação com buffer de apenas √n elementos
+        int n = arr.length;
+        int run = 32;
+        int bufferSize = Math.max(run, (int) Math.sqrt(n));
+        int[] buffer = scratchPool.acquireSmall(bufferSize); // sem o piso de n do pool
         
-        for (int i = 0; i < arr.length; i += blockSize) {
-            insertionSort(arr, i, Math.min(i + blockSize - 1, arr.length - 1));
+        for (int i = 0; i < n; i += run) {
+            insertionSort(arr, i, Math.min(i + run, n) - 1);
         }
         
-        for (int size = blockSize; size < arr.length; size = 2 * size) {
-            for (int left = 0; left < arr.length; left += 2 * size) {
-                int mid = left + size - 1;
-                int right = Math.min(left + 2 * size - 1, arr.length - 1);
-                if (mid < right) {
-                    merge(arr, new int[arr.length], left, mid, right);
+        for (int size = run; size < n; size = 2 * size) {
+            for (int left = 0; left + size < n; left += 2 * size) {
+                int mid = left + size;
+                int right = Math.min(left + 2 * size, n);
+                if (arr[mid - 1] > arr[mid]) {
+                    mergeInPlace(arr, left, mid, right, buffer, bufferSize);
                 }
             }
         }
         return arr;
     }
     
+    // Intercala [lo, mid) e [mid, hi): merge linear se um lado cabe no buffer,
+    // senão divide o lado maior, rotaciona o bloco central e resolve as duas metades
+    // (o buffer vem do pool e pode ser maior; só os primeiros bufferSize elementos são usados)
+    private void mergeInPlace(int[] arr, int lo, int mid, int hi, int[] buffer, int bufferSize) {
+        while (lo < mid && mid < hi) {
+            int len1 = mid - lo;
+            int len2 = hi - mid;
+            
+            if (len1 <= bufferSize) {
+                System.arraycopy(arr, lo, buffer, 0, len1);
+                int i = 0, j = mid, k = lo;
+                while (i < len1 && j < hi) {
+                    arr[k++] = buffer[i] <= arr[j] ? buffer[i++] : arr[j++];
+                }
+                System.arraycopy(buffer, i, arr, k, len1 - i);
+                return;
+            }
+            if (len2 <= bufferSize) {
+                System.arraycopy(arr, mid, buffer, 0, len2);
+                int i = mid - 1, j = len2 - 1, k = hi - 1;
+                while (i >= lo && j >= 0) {
+                    arr[k--] = arr[i] > buffer[j] ? arr[i--] : buffer[j--];
+                }
+                System.arraycopy(buffer, 0, arr, lo, j + 1);
+                return;
+            }
+            
+            int cut1, cut2;
+            if (len1 >= len2) {
+                cut1 = lo + len1 / 2;
+                cut2 = lowerBound(arr, mid, hi, arr[cut1]);
+            } else {
+                cut2 = mid + len2 / 2;
+                cut1 = upperBound(arr, lo, mid, arr[cut2]);
+            }
+            
+            rotate(arr, cut1, mid, cut2);
+            int newMid = cut1 + (cut2 - mid);
+            
+            if (newMid - lo < hi - newMid) {
+                mergeInPlace(arr, lo, cut1, newMid, buffer, bufferSize);
+                lo = newMid;
+                mid = cut2;
+            } else {
+                mergeInPlace(arr, newMid, cut2, hi, buffer, bufferSize);
+                hi = newMid;
+                mid = cut1;
+            }
+        }
+    }
+    
+    private void rotate(int[] arr, int lo, int mid, int hi) {
+        if (lo == mid || mid == hi) return;
+        reverse(arr, lo, mid - 1);
+        reverse(arr, mid, hi - 1);
+        reverse(arr, lo, hi - 1);
+    }
+    
+    private void reverse(int[] arr, int i, int j) {
+        while (i < j) {
+            swap(arr, i++, j--);
+        }
+    }
+    
+    private int lowerBound(int[] arr, int lo, int hi, int key) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (arr[mid] < key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+    
+    private int upperBound(int[] arr, int lo, int hi, int key) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (arr[mid] <= key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+    
     private void insertionSort(int[] arr, int left, int right) {
         for (int i = left + 1; i <= right; i++) {
             int key = arr[i];
@@ -458,18 +559,26 @@ public class AnalyticsEngine {
         return Collections.unmodifiableList(testHistory);
     }
     
+    public ScratchPool getScratchPool() {
+        return scratchPool;
+    }
+    
     public void exportResults(String filename) throws IOException {
         StringBuilder sb = new StringBuilder();
-        sb.append("Algorithm,ExecutionTime(ns),MemoryUsed(bytes),DataSize,Success,Timestamp\n");
+        sb.append("Algorithm,ExecutionTime(ns),MemoryUsed(bytes),DataSize,Success,Timestamp,CpuTime(ns),GcCount,GcTime(ms)\n");
         
         for (TestResult result : testHistory) {
-            sb.append(String.format("%s,%d,%d,%d,%s,%s\n",
+            ResourceMeter.Usage usage = result.getResourceUsage();
+            sb.append(String.format("%s,%d,%d,%d,%s,%s,%s,%s,%s\n",
                 result.getAlgorithmName(),
                 result.getExecutionTime(),
                 result.getMemoryUsed(),
                 result.getDataSize(),
                 result.isSuccess(),
-                result.getTimestamp()
+                result.getTimestamp(),
+                usage == null ? "" : usage.getCpuTimeNanos(),
+                usage == null ? "" : usage.getGcCount(),
+                usage == null ? "" : usage.getGcTimeMs()
             ));
         }
         
@@ -526,11 +635,12 @@ class AlgorithmStats {
 class TestResult {
     private String algorithmName;
     private long executionTime; // nanoseconds
-    private long memoryUsed;    // bytes
+    private long memoryUsed;    // bytes alocados pela thread do teste
     private int dataSize;
     private boolean success;
     private String scenario;
     private Date timestamp;
+    private ResourceMeter.Usage resourceUsage;
     
     public TestResult(String algorithmName, long executionTime, long memoryUsed, 
                      int dataSize, boolean success, String scenario, Date timestamp) {
@@ -551,17 +661,31 @@ class TestResult {
     public boolean isSuccess() { return success; }
     public String getScenario() { return scenario; }
     public Date getTimestamp() { return timestamp; }
+    public ResourceMeter.Usage getResourceUsage() { return resourceUsage; }
+    
+    public void setResourceUsage(ResourceMeter.Usage resourceUsage) { this.resourceUsage = resourceUsage; }
 }
 
 class BenchmarkResult {
     private List<TestResult> results;
     private TestConfig config;
     private Date timestamp;
+    private int scratchBuffers;
+    private long scratchBytes;
+    private double scratchHitRate;
     
     public BenchmarkResult(List<TestResult> results, TestConfig config, Date timestamp) {
+        this(results, config, timestamp, 0, 0, 0.0);
+    }
+    
+    public BenchmarkResult(List<TestResult> results, TestConfig config, Date timestamp,
+                          int scratchBuffers, long scratchBytes, double scratchHitRate) {
         this.results = results;
         this.config = config;
         this.timestamp = timestamp;
+        this.scratchBuffers = scratchBuffers;
+        this.scratchBytes = scratchBytes;
+        this.scratchHitRate = scratchHitRate;
     }
     
     public TestResult getFastestResult() {
@@ -582,6 +706,77 @@ class BenchmarkResult {
     public List<TestResult> getResults() { return Collections.unmodifiableList(results); }
     public TestConfig getConfig() { return config; }
     public Date getTimestamp() { return timestamp; }
+    public int getScratchBuffers() { return scratchBuffers; }
+    public long getScratchBytes() { return scratchBytes; }
+    public double getScratchHitRate() { return scratchHitRate; }
+    
+    @Override
+    public String toString() {
+        TestResult fastest = getFastestResult();
+        return String.format("Benchmark %s: %d/%d algorithms OK, fastest %s | scratch pool: %d buffers, %,d KB, hit rate %.1f%%",
+            config.getScenario(), results.stream().filter(TestResult::isSuccess).count(), results.size(),
+            fastest == null ? "-" : fastest.getAlgorithmName() + " (" + fastest.getExecutionTime() / 1000000 + " ms)",
+            scratchBuffers, scratchBytes / 1024, scratchHitRate);
+    }
+}
+
+// Um buffer int[] por thread, reaproveitado entre execuções dos kernels: evita que o
+// benchmark meça o alocador em vez do algoritmo
+class ScratchPool {
+    private final ThreadLocal<int[]> buffers = new ThreadLocal<>();
+    private final ThreadLocal<int[]> smallBuffers = new ThreadLocal<>(); // O(√n) do block sort
+    private final AtomicInteger bufferCount = new AtomicInteger();
+    private final AtomicLong totalBytes = new AtomicLong();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private volatile int capacity;
+    
+    // Define o tamanho mínimo dos buffers para a próxima rodada e zera a taxa de acerto
+    public void resize(int capacity) {
+        this.capacity = capacity;
+        requests.set(0);
+        hits.set(0);
+    }
+    
+    public int[] acquire(int size) {
+        return acquire(buffers, size, capacity);
+    }
+    
+    // Buffers auxiliares pequenos (ex.: √n do block sort): tamanho exato, em um slot separado,
+    // para não receber nem reter um buffer de n elementos
+    public int[] acquireSmall(int size) {
+        return acquire(smallBuffers, size, 0);
+    }
+    
+    private int[] acquire(ThreadLocal<int[]> slot, int size, int minimum) {
+        requests.incrementAndGet();
+        int[] buffer = slot.get();
+        if (buffer != null && buffer.length >= size) {
+            hits.incrementAndGet();
+            return buffer;
+        }
+        
+        int[] fresh = new int[Math.max(size, minimum)];
+        if (buffer == null) {
+            bufferCount.incrementAndGet();
+            totalBytes.addAndGet(4L * fresh.length);
+        } else {
+            totalBytes.addAndGet(4L * (fresh.length - buffer.length));
+        }
+        slot.set(fresh);
+        return fresh;
+    }
+    
+    public int getCapacity() { return capacity; }
+    public int getBufferCount() { return bufferCount.get(); }
+    public long getTotalBytes() { return totalBytes.get(); }
+    public long getRequests() { return requests.get(); }
+    public long getHits() { return hits.get(); }
+    
+    public double getHitRate() {
+        long total = requests.get();
+        return total > 0 ? (double) hits.get() / total * 100 : 0.0;
+    }
 }
 
 class TestConfig {
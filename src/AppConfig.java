@@ -0,0 +1,44 @@
+import java.io.*;
+import java.util.Properties;
+
+// Leitura das configurações de config.properties (com valores padrão se o arquivo não existir)
+public class AppConfig {
+    private static final String CONFIG_FILE = System.getProperty("config.file", "config.properties");
+    private static Properties properties;
+    
+    private static synchronized Properties load() {
+        if (properties == null) {
+            properties = new Properties();
+            File file = new File(CONFIG_FILE);
+            if (file.exists()) {
+                try (Reader reader = new InputStreamReader(new FileInputStream(file), "UTF-8")) {
+                    properties.load(reader);
+                } catch (IOException e) {
+                    System.err.println("Erro ao carregar " + CONFIG_FILE + ": " + e.getMessage());
+                }
+            }
+        }
+        return properties;
+    }
+    
+    public static String getString(String key, String defaultValue) {
+        String value = load().getProperty(key);
+        return value == null || value.trim().isEmpty() ? defaultValue : value.trim();
+    }
+    
+    public static int getInt(String key, int defaultValue) {
+        String value = getString(key, null);
+        if (value == null) return defaultValue;
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            System.err.println("Valor inválido para " + key + ": " + value);
+            return defaultValue;
+        }
+    }
+    
+    public static boolean getBoolean(String key, boolean defaultValue) {
+        String value = getString(key, null);
+        return value == null ? defaultValue : Boolean.parseBoolean(value);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,185 @@
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Escolhe o algoritmo a partir de uma amostra da entrada (custo sublinear):
+// runs existentes, taxa de inversões, duplicatas e cardinalidade das chaves
+public class AutoSort implements SortingAlgorithm {
+    private static final int SAMPLE_SIZE = 1024;
+    private static final double FEW_RUNS = 0.02;          // fração de descidas entre vizinhos
+    private static final double FEW_INVERSIONS = 0.10;    // fração de pares fora de ordem
+    private static final double LOW_CARDINALITY = 0.90;   // fração de duplicatas na amostra
+    private static final int PARALLEL_THRESHOLD = 1 << 17;
+    
+    private final Map<String, SortingAlgorithm> algorithms;
+    private final int processors;
+    private volatile String lastChoice;
+    private volatile Profile lastProfile;
+    
+    public AutoSort(Map<String, SortingAlgorithm> algorithms) {
+        this(algorithms, AppConfig.getInt("max.threads", Runtime.getRuntime().availableProcessors()));
+    }
+    
+    public AutoSort(Map<String, SortingAlgorithm> algorithms, int processors) {
+        this.algorithms = algorithms;
+        this.processors = Math.max(1, processors);
+    }
+    
+    @Override
+    public void sort(List<SatelliteImage> images, String sortCriteria) {
+        if (images == null || images.size() <= 1) return;
+        
+        Profile profile = profile(images, sortCriteria);
+        String choice = resolve(choose(profile, sortCriteria));
+        lastProfile = profile;
+        lastChoice = choice;
+        
+        algorithms.get(choice).sort(images, sortCriteria);
+    }
+    
+    static Profile profile(List<SatelliteImage> images, String sortCriteria) {
+        List<SatelliteImage> view = images instanceof RandomAccess ? images : new ArrayList<>(images);
+        Comparator<SatelliteImage> comparator = SortKeys.comparator(sortCriteria);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int n = view.size();
+        int samples = Math.min(SAMPLE_SIZE, n - 1);
+        
+        // Descidas entre vizinhos: estimam o número de runs (n * taxa)
+        int descents = 0;
+        for (int s = 0; s < samples; s++) {
+            int i = samples == n - 1 ? s : random.nextInt(n - 1);
+            if (comparator.compare(view.get(i), view.get(i + 1)) > 0) descents++;
+        }
+        
+        // Pares aleatórios i < j fora de ordem: estimam a taxa de inversões
+        int inversions = 0;
+        for (int s = 0; s < samples; s++) {
+            int i = random.nextInt(n);
+            int j = random.nextInt(n);
+            if (i == j) continue;
+            if (comparator.compare(view.get(Math.min(i, j)), view.get(Math.max(i, j))) > 0) inversions++;
+        }
+        
+        // Distintos em uma amostra ordenada: duplicatas e cardinalidade
+        int size = Math.min(SAMPLE_SIZE, n);
+        List<SatelliteImage> sample = new ArrayList<>(size);
+        for (int s = 0; s < size; s++) {
+            sample.add(view.get(size == n ? s : random.nextInt(n)));
+        }
+        sample.sort(comparator);
+        int distinct = 1;
+        for (int s = 1; s < size; s++) {
+            if (comparator.compare(sample.get(s - 1), sample.get(s)) != 0) distinct++;
+        }
+        
+        return new Profile(n, (double) descents / samples, (double) inversions / samples,
+                           1.0 - (double) distinct / size, distinct);
+    }
+    
+    private String choose(Profile profile, String sortCriteria) {
+        // Quase ordenado (ou quase reverso): poucas runs longas, merge de runs resolve em ~O(n).
+        // A taxa de inversões confirma: com muitas chaves iguais quase não há descidas
+        // entre vizinhos mesmo em entradas embaralhadas
+        boolean nearlySorted = profile.runRate <= FEW_RUNS && profile.inversionRate <= FEW_INVERSIONS;
+        boolean nearlyReversed = profile.runRate >= 1.0 - FEW_RUNS && profile.inversionRate >= 1.0 - FEW_INVERSIONS;
+        if (nearlySorted || nearlyReversed) {
+            return "TimSort";
+        }
+        // Poucos valores distintos (ex.: quality): o radix pula dígitos constantes e
+        // vira uma única passada de contagem
+        if ("quality".equals(sortCriteria) || profile.duplicateRatio >= LOW_CARDINALITY) {
+            return "RadixSort";
+        }
+        if (profile.size >= PARALLEL_THRESHOLD && processors > 1) {
+            return "ParallelSampleSort";
+        }
+        if ("timestamp".equals(sortCriteria) || "latitude".equals(sortCriteria) || "longitude".equals(sortCriteria)) {
+            return "RadixSort";
+        }
+        if (sortCriteria == null || "id".equals(sortCriteria)) {
+            return "MultikeyQuickSort";
+        }
+        return "QuickSort";
+    }
+    
+    // Se a estratégia escolhida não estiver registrada, cai no QuickSort ou no primeiro disponível
+    private String resolve(String choice) {
+        if (isCandidate(choice)) return choice;
+        if (isCandidate("QuickSort")) return "QuickSort";
+        for (Map.Entry<String, SortingAlgorithm> entry : algorithms.entrySet()) {
+            if (entry.getValue() != this) return entry.getKey();
+        }
+        throw new IllegalStateException("Nenhum algoritmo registrado para o AutoSort");
+    }
+    
+    private boolean isCandidate(String name) {
+        SortingAlgorithm algorithm = algorithms.get(name);
+        return algorithm != null && algorithm != this;
+    }
+    
+    public String getLastChoice() {
+        return lastChoice;
+    }
+    
+    public Profile getLastProfile() {
+        return lastProfile;
+    }
+    
+    static final class Profile {
+        final int size;
+        final double runRate;
+        final double inversionRate;
+        final double duplicateRatio;
+        final int sampleCardinality;
+        
+        Profile(int size, double runRate, double inversionRate, double duplicateRatio, int sampleCardinality) {
+            this.size = size;
+            this.runRate = runRate;
+            this.inversionRate = inversionRate;
+            this.duplicateRatio = duplicateRatio;
+            this.sampleCardinality = sampleCardinality;
+        }
+        
+        public long getEstimatedRuns() {
+            return Math.max(1, Math.round(runRate * size));
+        }
+        
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "runs~%d inversões=%.3f duplicatas=%.3f distintos=%d",
+                                 getEstimatedRuns(), inversionRate, duplicateRatio, sampleCardinality);
+        }
+    }
+    
+    @Override
+    public String getName() {
+        return "Auto";
+    }
+    
+    @Override
+    public String getDescription() {
+        return "Amostra a entrada (runs, inversões, duplicatas) e despacha para o algoritmo registrado mais adequado";
+    }
+    
+    @Override
+    public String getTimeComplexity() {
+        return "O(s log s) amostragem (s = 1024) + algoritmo escolhido";
+    }
+    
+    @Override
+    public String getSpaceComplexity() {
+        return "O(amostra) + algoritmo escolhido";
+    }
+    
+    // Depende do último despacho (ex.: ParallelSampleSort em entradas grandes)
+    @Override
+    public boolean usesWorkerThreads() {
+        String choice = lastChoice;
+        return choice != null && algorithms.get(choice).usesWorkerThreads();
+    }
+    
+    @Override
+    public boolean isStable() {
+        String choice = lastChoice;
+        return choice != null && algorithms.get(choice).isStable();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,208 @@
+import java.util.List;
+
+public class BlockSort implements SortingAlgorithm {
+    private static final int RUN = 32;
+    
+    @Override
+    public void sort(List<SatelliteImage> images, String sortCriteria) {
+        if (images == null || images.size() <= 1) return;
+        SortKeys sortKeys = SortKeys.extract(images, sortCriteria);
+        blockSort(sortKeys.keys, sortKeys.index);
+        sortKeys.applyTo(images);
+    }
+    
+    // Merge sort estável e in-place: runs curtos por inserção e merges por rotação,
+    // usando apenas um buffer de √n elementos (nunca uma cópia do array inteiro)
+    static void blockSort(long[] keys, int[] index) {
+        int n = keys.length;
+        int bufferSize = Math.max(RUN, (int) Math.sqrt(n));
+        long[] bufferKeys = new long[bufferSize];
+        int[] bufferIndex = new int[bufferSize];
+        OperationCounters.allocated(12L * bufferSize);
+        
+        for (int i = 0; i < n; i += RUN) {
+            insertionSort(keys, index, i, Math.min(i + RUN, n) - 1);
+        }
+        
+        for (int size = RUN; size < n; size = 2 * size) {
+            for (int left = 0; left + size < n; left += 2 * size) {
+                int mid = left + size;
+                int right = Math.min(left + 2 * size, n);
+                if (OperationCounters.less(keys[mid], keys[mid - 1])) {
+                    mergeInPlace(keys, index, left, mid, right, bufferKeys, bufferIndex);
+                }
+            }
+        }
+    }
+    
+    // Intercala [lo, mid) e [mid, hi). Se um dos lados cabe no buffer, merge linear;
+    // senão divide pelo meio do lado maior (busca binária no outro), rotaciona o
+    // bloco central e resolve os dois submerges menores
+    private static void mergeInPlace(long[] keys, int[] index, int lo, int mid, int hi,
+                                     long[] bufferKeys, int[] bufferIndex) {
+        while (lo < mid && mid < hi) {
+            int len1 = mid - lo;
+            int len2 = hi - mid;
+            
+            if (len1 <= bufferKeys.length) {
+                mergeForward(keys, index, lo, mid, hi, bufferKeys, bufferIndex);
+                return;
+            }
+            if (len2 <= bufferKeys.length) {
+                mergeBackward(keys, index, lo, mid, hi, bufferKeys, bufferIndex);
+                return;
+            }
+            
+            int cut1, cut2;
+            if (len1 >= len2) {
+                cut1 = lo + len1 / 2;
+                cut2 = lowerBound(keys, mid, hi, keys[cut1]);
+            } else {
+                cut2 = mid + len2 / 2;
+                cut1 = upperBound(keys, lo, mid, keys[cut2]);
+            }
+            
+            rotate(keys, index, cut1, mid, cut2);
+            int newMid = cut1 + (cut2 - mid);
+            
+            // Recursão na parte menor, laço na maior
+            if (newMid - lo < hi - newMid) {
+                mergeInPlace(keys, index, lo, cut1, newMid, bufferKeys, bufferIndex);
+                lo = newMid;
+                mid = cut2;
+            } else {
+                mergeInPlace(keys, index, newMid, cut2, hi, bufferKeys, bufferIndex);
+                hi = newMid;
+                mid = cut1;
+            }
+        }
+    }
+    
+    private static void mergeForward(long[] keys, int[] index, int lo, int mid, int hi,
+                                     long[] bufferKeys, int[] bufferIndex) {
+        int len1 = mid - lo;
+        System.arraycopy(keys, lo, bufferKeys, 0, len1);
+        System.arraycopy(index, lo, bufferIndex, 0, len1);
+        
+        OperationCounters.moves(len1 + (hi - lo));
+        int i = 0, j = mid, k = lo;
+        while (i < len1 && j < hi) {
+            if (!OperationCounters.less(keys[j], bufferKeys[i])) {
+                keys[k] = bufferKeys[i];
+                index[k++] = bufferIndex[i++];
+            } else {
+                keys[k] = keys[j];
+                index[k++] = index[j++];
+            }
+        }
+        System.arraycopy(bufferKeys, i, keys, k, len1 - i);
+        System.arraycopy(bufferIndex, i, index, k, len1 - i);
+    }
+    
+    private static void mergeBackward(long[] keys, int[] index, int lo, int mid, int hi,
+                                      long[] bufferKeys, int[] bufferIndex) {
+        int len2 = hi - mid;
+        System.arraycopy(keys, mid, bufferKeys, 0, len2);
+        System.arraycopy(index, mid, bufferIndex, 0, len2);
+        
+        OperationCounters.moves(len2 + (hi - lo));
+        int i = mid - 1, j = len2 - 1, k = hi - 1;
+        while (i >= lo && j >= 0) {
+            if (OperationCounters.less(bufferKeys[j], keys[i])) {
+                keys[k] = keys[i];
+                index[k--] = index[i--];
+            } else {
+                keys[k] = bufferKeys[j];
+                index[k--] = bufferIndex[j--];
+            }
+        }
+        System.arraycopy(bufferKeys, 0, keys, lo, j + 1);
+        System.arraycopy(bufferIndex, 0, index, lo, j + 1);
+    }
+    
+    // Rotação [lo, mid, hi) -> [mid, hi, lo) por três inversões
+    private static void rotate(long[] keys, int[] index, int lo, int mid, int hi) {
+        if (lo == mid || mid == hi) return;
+        reverse(keys, index, lo, mid - 1);
+        reverse(keys, index, mid, hi - 1);
+        reverse(keys, index, lo, hi - 1);
+    }
+    
+    private static void reverse(long[] keys, int[] index, int i, int j) {
+        while (i < j) {
+            OperationCounters.swap();
+            long key = keys[i];
+            keys[i] = keys[j];
+            keys[j] = key;
+            int idx = index[i];
+            index[i++] = index[j];
+            index[j--] = idx;
+        }
+    }
+    
+    private static int lowerBound(long[] keys, int lo, int hi, long key) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (OperationCounters.less(keys[mid], key)) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+    
+    private static int upperBound(long[] keys, int lo, int hi, long key) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (!OperationCounters.less(key, keys[mid])) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+    
+    private static void insertionSort(long[] keys, int[] index, int left, int right) {
+        for (int i = left + 1; i <= right; i++) {
+            long key = keys[i];
+            int idx = index[i];
+            int j = i - 1;
+            
+            while (j >= left && OperationCounters.less(key, keys[j])) {
+                keys[j + 1] = keys[j];
+                index[j + 1] = index[j];
+                j--;
+            }
+            OperationCounters.moves(i - 1 - j); // deslocamentos
+            keys[j + 1] = key;
+            index[j + 1] = idx;
+        }
+    }
+    
+    @Override
+    public String getName() {
+        return "BlockSort";
+    }
+    
+    @Override
+    public String getDescription() {
+        return "Merge sort em bloco estável e in-place: merges por rotação com buffer de √n elementos";
+    }
+    
+    @Override
+    public String getTimeComplexity() {
+        return "O(n log n) típico, O(n log² n) pior caso";
+    }
+    
+    @Override
+    public String getSpaceComplexity() {
+        return "O(√n)";
+    }
+    
+    @Override
+    public boolean isStable() {
+        return true;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,102 @@
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Dicionário compartilhado de valores categóricos (qualidade, região): cada valor
+// distinto vira um código pequeno, atribuído na ordem de chegada, e o posto do
+// código na ordem alfabética fica em um array. Comparações e histogramas usam
+// os códigos em vez de hashear/comparar strings.
+public final class CategoryDictionary {
+    public static final CategoryDictionary QUALITY = new CategoryDictionary("quality");
+    public static final CategoryDictionary REGION = new CategoryDictionary("region");
+    
+    private static final int MAX_CODES = 1 << 16; // o código cabe em um short
+    
+    private final String name;
+    private final Map<String, Integer> codes = new ConcurrentHashMap<>();
+    private volatile String[] values = new String[0];
+    private volatile int[] ranks = new int[0];
+    private int[] sortedCodes = new int[0]; // códigos na ordem dos valores (só dentro de register)
+    private volatile int nullCode = -1;     // null é aceito como valor (ConcurrentHashMap não guarda chave null)
+    
+    private CategoryDictionary(String name) {
+        this.name = name;
+    }
+    
+    public int encode(String value) {
+        if (value == null) {
+            int code = nullCode;
+            return code >= 0 ? code : register(null);
+        }
+        Integer code = codes.get(value);
+        return code != null ? code : register(value);
+    }
+    
+    // Raro (um por valor distinto): insere o código na ordem dos valores, desloca os postos
+    // seguintes (O(d), sem reordenar) e só então publica o código
+    private synchronized int register(String value) {
+        if (value == null && nullCode >= 0) return nullCode;
+        Integer existing = value == null ? null : codes.get(value);
+        if (existing != null) return existing;
+        
+        int code = values.length;
+        if (code == MAX_CODES) {
+            throw new IllegalStateException("Dicionário " + name + " excede " + MAX_CODES + " valores");
+        }
+        String[] grown = Arrays.copyOf(values, code + 1);
+        grown[code] = value;
+        
+        int lo = 0, hi = code;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (compareValues(values[sortedCodes[mid]], value) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        int[] newSorted = new int[code + 1];
+        System.arraycopy(sortedCodes, 0, newSorted, 0, lo);
+        newSorted[lo] = code;
+        System.arraycopy(sortedCodes, lo, newSorted, lo + 1, code - lo);
+        int[] newRanks = Arrays.copyOf(ranks, code + 1);
+        for (int rank = lo; rank <= code; rank++) newRanks[newSorted[rank]] = rank;
+        
+        sortedCodes = newSorted;
+        values = grown;
+        ranks = newRanks;
+        if (value == null) {
+            nullCode = code;
+        } else {
+            codes.put(value, code);
+        }
+        return code;
+    }
+    
+    // Ordem de String.compareTo, com null antes de qualquer valor
+    private static int compareValues(String a, String b) {
+        if (a == null || b == null) return a == null ? (b == null ? 0 : -1) : 1;
+        return a.compareTo(b);
+    }
+    
+    public String valueOf(int code) {
+        return values[code];
+    }
+    
+    // Posto do código na ordem de String.compareTo dos valores (null primeiro)
+    public int rank(int code) {
+        return ranks[code];
+    }
+    
+    // Cópia consistente dos postos para laços longos (não muda se novos valores chegarem)
+    public int[] ranks() {
+        return ranks;
+    }
+    
+    public int size() {
+        return values.length;
+    }
+    
+    public String getName() {
+        return name;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,442 @@
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+// Catálogo colunar fora do heap: cada atributo fica em uma coluna de
+// ByteBuffer.allocateDirect (ids em UTF-8 com coluna de offsets; qualidade e região
+// como códigos do CategoryDictionary). No heap ficam só os buffers, então
+// milhões de imagens não pesam no GC. A ordenação permuta apenas uma coluna de índices.
+public class ColumnarImageStore {
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int ID_BYTES_PER_ROW = 32; // estimativa inicial da coluna de ids
+    private static final int DIGIT_BITS = 11;
+    private static final int RADIX = 1 << DIGIT_BITS;
+    private static final int MASK = RADIX - 1;
+    private static final int INSERTION_THRESHOLD = 16;
+    
+    private ByteBuffer latitudes;
+    private ByteBuffer longitudes;
+    private ByteBuffer timestamps;
+    private ByteBuffer qualityCodes;
+    private ByteBuffer regionCodes;
+    private ByteBuffer sizes;
+    private ByteBuffer idOffsets; // início do id de cada linha (capacidade + 1 entradas)
+    private ByteBuffer idData;
+    private ByteBuffer order;     // coluna de índices: a permutação da última ordenação
+    
+    // Colunas de trabalho da ordenação, reaproveitadas entre ordenações
+    private ByteBuffer sortKeys, auxKeys, auxOrder;
+    
+    private int size;
+    private int capacity;
+    
+    public ColumnarImageStore() {
+        this(INITIAL_CAPACITY);
+    }
+    
+    public ColumnarImageStore(int initialCapacity) {
+        capacity = Math.max(1, initialCapacity);
+        latitudes = allocate(8L * capacity);
+        longitudes = allocate(8L * capacity);
+        timestamps = allocate(8L * capacity);
+        qualityCodes = allocate(2L * capacity);
+        regionCodes = allocate(2L * capacity);
+        sizes = allocate(4L * capacity);
+        idOffsets = allocate(4L * (capacity + 1));
+        idData = allocate((long) ID_BYTES_PER_ROW * capacity);
+        order = allocate(4L * capacity);
+    }
+    
+    public static ColumnarImageStore fromList(List<SatelliteImage> images) {
+        ColumnarImageStore store = new ColumnarImageStore(images.size());
+        for (SatelliteImage image : images) {
+            store.add(image);
+        }
+        return store;
+    }
+    
+    // Lê o arquivo linha a linha direto para as colunas, sem manter uma List no heap
+    public static ColumnarImageStore loadFromFile(File file) throws IOException {
+        ColumnarImageStore store = new ColumnarImageStore();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8), 1 << 16)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                SatelliteImage image = ImageLoader.parseLine(line);
+                if (image != null) {
+                    store.add(image);
+                }
+            }
+        }
+        return store;
+    }
+    
+    private static ByteBuffer allocate(long bytes) {
+        if (bytes > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Coluna excede 2 GB: " + bytes + " bytes");
+        }
+        return ByteBuffer.allocateDirect((int) bytes).order(ByteOrder.nativeOrder());
+    }
+    
+    private static ByteBuffer grow(ByteBuffer column, long bytes) {
+        ByteBuffer grown = allocate(bytes);
+        ByteBuffer source = column.duplicate();
+        source.clear();
+        grown.put(source);
+        grown.clear();
+        return grown;
+    }
+    
+    public void add(SatelliteImage image) {
+        add(image.getImageId(), image.getLatitude(), image.getLongitude(), image.getTimestamp(),
+            image.getQualityCode(), image.getRegionCode(), image.getSizeKB());
+    }
+    
+    public void add(String imageId, double latitude, double longitude, long timestamp,
+                    String quality, String region, int sizeKB) {
+        add(imageId, latitude, longitude, timestamp, CategoryDictionary.QUALITY.encode(quality),
+            CategoryDictionary.REGION.encode(region), sizeKB);
+    }
+    
+    private void add(String imageId, double latitude, double longitude, long timestamp,
+                     int qualityCode, int regionCode, int sizeKB) {
+        if (size == capacity) {
+            int grown = capacity + (capacity >> 1) + 1;
+            latitudes = grow(latitudes, 8L * grown);
+            longitudes = grow(longitudes, 8L * grown);
+            timestamps = grow(timestamps, 8L * grown);
+            qualityCodes = grow(qualityCodes, 2L * grown);
+            regionCodes = grow(regionCodes, 2L * grown);
+            sizes = grow(sizes, 4L * grown);
+            idOffsets = grow(idOffsets, 4L * (grown + 1));
+            order = grow(order, 4L * grown);
+            capacity = grown;
+        }
+        
+        byte[] id = imageId.getBytes(StandardCharsets.UTF_8);
+        int start = idOffsets.getInt(4 * size);
+        if (start + id.length > idData.capacity()) {
+            idData = grow(idData, Math.max((long) idData.capacity() * 3 / 2, (long) start + id.length));
+        }
+        ByteBuffer target = idData.duplicate();
+        target.position(start);
+        target.put(id);
+        
+        int row = size;
+        idOffsets.putInt(4 * (row + 1), start + id.length);
+        latitudes.putDouble(8 * row, latitude);
+        longitudes.putDouble(8 * row, longitude);
+        timestamps.putLong(8 * row, timestamp);
+        qualityCodes.putShort(2 * row, (short) qualityCode);
+        regionCodes.putShort(2 * row, (short) regionCode);
+        sizes.putInt(4 * row, sizeKB);
+        order.putInt(4 * row, row);
+        size++;
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    // Bytes fora do heap ocupados pelas colunas (incluindo as de trabalho da ordenação)
+    public long getOffHeapBytes() {
+        long bytes = 0;
+        for (ByteBuffer column : new ByteBuffer[]{latitudes, longitudes, timestamps, qualityCodes,
+                                                  regionCodes, sizes, idOffsets, idData, order,
+                                                  sortKeys, auxKeys, auxOrder}) {
+            if (column != null) bytes += column.capacity();
+        }
+        return bytes;
+    }
+    
+    // Linha física da posição 'rank' na ordem atual
+    public int rowAt(int rank) {
+        return order.getInt(4 * rank);
+    }
+    
+    public ImageView view() {
+        return new ImageView();
+    }
+    
+    // Flyweight: um cursor reposicionável que lê direto das colunas, sem criar objetos por linha
+    public final class ImageView {
+        private int row;
+        
+        public ImageView moveTo(int row) {
+            if (row < 0 || row >= size) {
+                throw new IndexOutOfBoundsException("Linha fora do catálogo: " + row);
+            }
+            this.row = row;
+            return this;
+        }
+        
+        public ImageView moveToRank(int rank) {
+            return moveTo(rowAt(rank));
+        }
+        
+        public int getRow() { return row; }
+        public double getLatitude() { return latitudes.getDouble(8 * row); }
+        public double getLongitude() { return longitudes.getDouble(8 * row); }
+        public long getTimestamp() { return timestamps.getLong(8 * row); }
+        public int getQualityCode() { return qualityCodes.getShort(2 * row) & 0xFFFF; }
+        public int getRegionCode() { return regionCodes.getShort(2 * row) & 0xFFFF; }
+        public String getQuality() { return CategoryDictionary.QUALITY.valueOf(getQualityCode()); }
+        public String getRegion() { return CategoryDictionary.REGION.valueOf(getRegionCode()); }
+        public int getSizeKB() { return sizes.getInt(4 * row); }
+        
+        public String getImageId() {
+            int start = idOffsets.getInt(4 * row);
+            byte[] bytes = new byte[idOffsets.getInt(4 * (row + 1)) - start];
+            ByteBuffer source = idData.duplicate();
+            source.position(start);
+            source.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+        
+        public SatelliteImage toImage() {
+            return new SatelliteImage(getImageId(), getLatitude(), getLongitude(), getTimestamp(),
+                                      getQuality(), getRegion(), getSizeKB());
+        }
+    }
+    
+    public List<SatelliteImage> toList() {
+        List<SatelliteImage> images = new ArrayList<>(size);
+        ImageView view = view();
+        for (int rank = 0; rank < size; rank++) {
+            images.add(view.moveToRank(rank).toImage());
+        }
+        return images;
+    }
+    
+    // Ordena a coluna de índices pelo critério, com os mesmos campos e a mesma validação
+    // do SortKeys (ex.: "region,quality,-timestamp"; '-' inverte). Chaves de 64 bits fora
+    // do heap + radix sort LSD estável, uma passada por campo, do último para o primeiro:
+    // a estabilidade preserva a ordem dos campos seguintes dentro dos empates. Para id a
+    // chave são 8 bytes após o prefixo comum e empates comparam o id completo.
+    public void sort(String sortCriteria) {
+        String criteria = sortCriteria == null ? "id" : sortCriteria.trim();
+        SortKeys.comparator(criteria); // campo desconhecido em critério composto: IllegalArgumentException
+        String[] fields = SortKeys.isComposite(criteria) ? criteria.split(",") : new String[]{criteria};
+        if (size <= 1) return;
+        
+        ensureSortColumns();
+        for (int i = 0; i < size; i++) {
+            order.putInt(4 * i, i);
+        }
+        for (int f = fields.length - 1; f >= 0; f--) {
+            String field = fields[f].trim();
+            boolean descending = field.startsWith("-");
+            if (descending) field = field.substring(1).trim();
+            
+            boolean exact = buildKeys(field, descending);
+            radixSort();
+            if (!exact) {
+                resolveIdTies(descending);
+            }
+        }
+    }
+    
+    private void ensureSortColumns() {
+        if (sortKeys == null || sortKeys.capacity() < 8L * size) {
+            sortKeys = allocate(8L * capacity);
+            auxKeys = allocate(8L * capacity);
+            auxOrder = allocate(4L * capacity);
+        }
+    }
+    
+    // A chave da posição i é a da linha order[i]: cada passada parte da ordem da anterior
+    private boolean buildKeys(String field, boolean descending) {
+        boolean exact = true;
+        switch (field) {
+            case "timestamp":
+                for (int i = 0; i < size; i++) sortKeys.putLong(8 * i, timestamps.getLong(8 * rowAt(i)));
+                break;
+            case "latitude":
+                for (int i = 0; i < size; i++) sortKeys.putLong(8 * i, SortKeys.doubleKey(latitudes.getDouble(8 * rowAt(i))));
+                break;
+            case "longitude":
+                for (int i = 0; i < size; i++) sortKeys.putLong(8 * i, SortKeys.doubleKey(longitudes.getDouble(8 * rowAt(i))));
+                break;
+            case "quality":
+                buildRankKeys(qualityCodes, CategoryDictionary.QUALITY);
+                break;
+            case "region":
+                buildRankKeys(regionCodes, CategoryDictionary.REGION);
+                break;
+            default: // "id" ou padrão, como no SortKeys
+                exact = buildIdKeys();
+        }
+        if (descending) {
+            for (int i = 0; i < size; i++) sortKeys.putLong(8 * i, ~sortKeys.getLong(8 * i));
+        }
+        return exact;
+    }
+    
+    // Códigos são atribuídos na ordem de chegada; a chave é o posto do código no dicionário
+    private void buildRankKeys(ByteBuffer codes, CategoryDictionary dictionary) {
+        int[] ranks = dictionary.ranks();
+        for (int i = 0; i < size; i++) {
+            sortKeys.putLong(8 * i, ranks[codes.getShort(2 * rowAt(i)) & 0xFFFF]);
+        }
+    }
+    
+    // 8 bytes após o maior prefixo comum, em ordem sem sinal; exata se nenhum id passar disso
+    private boolean buildIdKeys() {
+        int firstStart = idOffsets.getInt(0);
+        int lcp = idOffsets.getInt(4) - firstStart;
+        int maxLength = 0;
+        for (int row = 0; row < size; row++) {
+            int start = idOffsets.getInt(4 * row);
+            int length = idOffsets.getInt(4 * (row + 1)) - start;
+            int limit = Math.min(lcp, length);
+            int p = 0;
+            while (p < limit && idData.get(start + p) == idData.get(firstStart + p)) p++;
+            lcp = p;
+            maxLength = Math.max(maxLength, length);
+        }
+        
+        for (int i = 0; i < size; i++) {
+            int row = rowAt(i);
+            int start = idOffsets.getInt(4 * row);
+            int end = idOffsets.getInt(4 * (row + 1));
+            long key = 0;
+            for (int p = start + lcp; p < start + lcp + 8; p++) {
+                key = (key << 8) | (p < end ? idData.get(p) & 0xFF : 0);
+            }
+            sortKeys.putLong(8 * i, key ^ Long.MIN_VALUE);
+        }
+        // Um byte 0 real empata com o fim do id: só é exata sem ids além dos 8 bytes
+        return maxLength <= lcp + 8 && !containsZeroByte();
+    }
+    
+    private boolean containsZeroByte() {
+        int end = idOffsets.getInt(4 * size);
+        for (int p = 0; p < end; p++) {
+            if (idData.get(p) == 0) return true;
+        }
+        return false;
+    }
+    
+    // LSD de 11 bits sobre as colunas fora do heap, pulando dígitos constantes
+    private void radixSort() {
+        int passes = (64 + DIGIT_BITS - 1) / DIGIT_BITS;
+        int[][] counts = new int[passes][RADIX];
+        for (int i = 0; i < size; i++) {
+            long key = sortKeys.getLong(8 * i) ^ Long.MIN_VALUE;
+            for (int pass = 0; pass < passes; pass++) {
+                counts[pass][(int) (key >>> (pass * DIGIT_BITS)) & MASK]++;
+            }
+        }
+        
+        ByteBuffer srcKeys = sortKeys, dstKeys = auxKeys;
+        ByteBuffer srcOrder = order, dstOrder = auxOrder;
+        for (int pass = 0; pass < passes; pass++) {
+            int[] count = counts[pass];
+            int shift = pass * DIGIT_BITS;
+            int sample = (int) ((srcKeys.getLong(0) ^ Long.MIN_VALUE) >>> shift) & MASK;
+            if (count[sample] == size) continue;
+            
+            int sum = 0;
+            for (int d = 0; d < RADIX; d++) {
+                int c = count[d];
+                count[d] = sum;
+                sum += c;
+            }
+            for (int i = 0; i < size; i++) {
+                long key = srcKeys.getLong(8 * i);
+                int target = count[(int) ((key ^ Long.MIN_VALUE) >>> shift) & MASK]++;
+                dstKeys.putLong(8 * target, key);
+                dstOrder.putInt(4 * target, srcOrder.getInt(4 * i));
+            }
+            
+            ByteBuffer tempKeys = srcKeys; srcKeys = dstKeys; dstKeys = tempKeys;
+            ByteBuffer tempOrder = srcOrder; srcOrder = dstOrder; dstOrder = tempOrder;
+        }
+        
+        // Mantém os papéis das colunas: o resultado fica sempre em sortKeys/order
+        if (srcKeys != sortKeys) {
+            auxKeys = sortKeys;
+            sortKeys = srcKeys;
+            auxOrder = order;
+            order = srcOrder;
+        }
+    }
+    
+    // Grupos de chaves iguais são reordenados (merge sort estável) pelo id completo;
+    // os dois int[] de trabalho são reaproveitados entre os grupos
+    private void resolveIdTies(boolean descending) {
+        int[] rows = new int[0], buffer = new int[0];
+        int start = 0;
+        while (start < size) {
+            int end = start + 1;
+            long key = sortKeys.getLong(8 * start);
+            while (end < size && sortKeys.getLong(8 * end) == key) end++;
+            int count = end - start;
+            if (count > 1) {
+                if (rows.length < count) {
+                    rows = new int[count];
+                    buffer = new int[count];
+                }
+                for (int i = 0; i < count; i++) rows[i] = order.getInt(4 * (start + i));
+                sortRowsById(rows, buffer, 0, count, descending);
+                for (int i = 0; i < count; i++) order.putInt(4 * (start + i), rows[i]);
+            }
+            start = end;
+        }
+    }
+    
+    // [low, high) de um int[] de linhas, sem boxing: inserção nos trechos pequenos
+    private void sortRowsById(int[] rows, int[] buffer, int low, int high, boolean descending) {
+        if (high - low <= INSERTION_THRESHOLD) {
+            for (int i = low + 1; i < high; i++) {
+                int row = rows[i];
+                int j = i - 1;
+                while (j >= low && compareIds(rows[j], row, descending) > 0) {
+                    rows[j + 1] = rows[j];
+                    j--;
+                }
+                rows[j + 1] = row;
+            }
+            return;
+        }
+        int mid = (low + high) >>> 1;
+        sortRowsById(rows, buffer, low, mid, descending);
+        sortRowsById(rows, buffer, mid, high, descending);
+        if (compareIds(rows[mid - 1], rows[mid], descending) <= 0) return;
+        
+        System.arraycopy(rows, low, buffer, low, high - low);
+        int i = low, j = mid, k = low;
+        while (i < mid && j < high) {
+            // Só o da direita estritamente menor passa à frente: estável
+            rows[k++] = compareIds(buffer[j], buffer[i], descending) < 0 ? buffer[j++] : buffer[i++];
+        }
+        while (i < mid) rows[k++] = buffer[i++];
+        while (j < high) rows[k++] = buffer[j++];
+    }
+    
+    // Ordem dos bytes UTF-8 = ordem de code points (igual a String.compareTo fora dos pares
+    // substitutos). Compara 8 bytes por vez, lidos como long sem sinal em big-endian
+    private int compareIds(int rowA, int rowB, boolean descending) {
+        int startA = idOffsets.getInt(4 * rowA), endA = idOffsets.getInt(4 * (rowA + 1));
+        int startB = idOffsets.getInt(4 * rowB), endB = idOffsets.getInt(4 * (rowB + 1));
+        int limit = Math.min(endA - startA, endB - startB);
+        int cmp = 0, p = 0;
+        while (cmp == 0 && p + 8 <= limit) {
+            long a = idData.getLong(startA + p), b = idData.getLong(startB + p);
+            if (a != b) cmp = Long.compareUnsigned(bigEndian(a), bigEndian(b));
+            p += 8;
+        }
+        while (cmp == 0 && p < limit) {
+            cmp = (idData.get(startA + p) & 0xFF) - (idData.get(startB + p) & 0xFF);
+            p++;
+        }
+        if (cmp == 0) cmp = (endA - startA) - (endB - startB);
+        return descending ? -cmp : cmp;
+    }
+    
+    private static long bigEndian(long word) {
+        return ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN ? word : Long.reverseBytes(word);
+    }
+}
\ No newline at end of file
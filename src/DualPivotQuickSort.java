@@ -0,0 +1,132 @@
+import java.util.List;
+
+public class DualPivotQuickSort implements SortingAlgorithm {
+    private static final int INSERTION_THRESHOLD = 27;
+    
+    @Override
+    public void sort(List<SatelliteImage> images, String sortCriteria) {
+        if (images == null || images.size() <= 1) return;
+        SortKeys keys = SortKeys.extract(images, sortCriteria);
+        int n = keys.size();
+        // Mesmo limite do QuickSort.sortRange: 2*log2(n) níveis, depois heapsort
+        dualPivotQuickSort(keys.keys, keys.index, 0, n - 1, 2 * (31 - Integer.numberOfLeadingZeros(n)));
+        keys.applyTo(images);
+    }
+    
+    // Yaroslavskiy: dois pivôs dividem o trecho em < p1 | p1..p2 | > p2
+    private static void dualPivotQuickSort(long[] keys, int[] index, int low, int high, int depthLimit) {
+        while (high - low >= INSERTION_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                QuickSort.heapSort(keys, index, low, high);
+                return;
+            }
+            
+            // Pivôs tirados dos tercis (e não das pontas), evitando o caso quadrático em dados ordenados
+            int third = (high - low) / 3;
+            swap(keys, index, low, low + third);
+            swap(keys, index, high, high - third);
+            
+            int[] pivots = dualPivotPartition(keys, index, low, high);
+            int lt = pivots[0], gt = pivots[1];
+            // Pivôs iguais: o trecho central só contém chaves iguais a eles
+            boolean sortMiddle = OperationCounters.less(keys[lt], keys[gt]);
+            int leftSize = lt - low;
+            int middleSize = sortMiddle ? gt - lt - 1 : 0;
+            int rightSize = high - gt;
+            
+            // Recursão nos dois trechos menores; o maior continua no laço (pilha O(log n))
+            if (leftSize >= middleSize && leftSize >= rightSize) {
+                if (sortMiddle) dualPivotQuickSort(keys, index, lt + 1, gt - 1, depthLimit);
+                dualPivotQuickSort(keys, index, gt + 1, high, depthLimit);
+                high = lt - 1;
+            } else if (rightSize >= middleSize) {
+                dualPivotQuickSort(keys, index, low, lt - 1, depthLimit);
+                if (sortMiddle) dualPivotQuickSort(keys, index, lt + 1, gt - 1, depthLimit);
+                low = gt + 1;
+            } else {
+                dualPivotQuickSort(keys, index, low, lt - 1, depthLimit);
+                dualPivotQuickSort(keys, index, gt + 1, high, depthLimit);
+                low = lt + 1;
+                high = gt - 1;
+            }
+        }
+        insertionSort(keys, index, low, high);
+    }
+    
+    private static int[] dualPivotPartition(long[] keys, int[] index, int low, int high) {
+        if (OperationCounters.less(keys[high], keys[low])) swap(keys, index, low, high);
+        
+        long pivot1 = keys[low], pivot2 = keys[high];
+        int i = low + 1, j = high - 1;
+        int k = low + 1;
+        
+        while (k <= j) {
+            if (OperationCounters.less(keys[k], pivot1)) {
+                swap(keys, index, k, i);
+                i++;
+            } else if (!OperationCounters.less(keys[k], pivot2)) {
+                while (OperationCounters.less(pivot2, keys[j]) && k < j) j--;
+                swap(keys, index, k, j);
+                j--;
+                if (OperationCounters.less(keys[k], pivot1)) {
+                    swap(keys, index, k, i);
+                    i++;
+                }
+            }
+            k++;
+        }
+        i--; j++;
+        
+        swap(keys, index, low, i);
+        swap(keys, index, high, j);
+        
+        return new int[]{i, j};
+    }
+    
+    private static void insertionSort(long[] keys, int[] index, int left, int right) {
+        for (int i = left + 1; i <= right; i++) {
+            long key = keys[i];
+            int idx = index[i];
+            int j = i - 1;
+            
+            while (j >= left && OperationCounters.less(key, keys[j])) {
+                keys[j + 1] = keys[j];
+                index[j + 1] = index[j];
+                j--;
+            }
+            OperationCounters.moves(i - 1 - j); // deslocamentos
+            keys[j + 1] = key;
+            index[j + 1] = idx;
+        }
+    }
+    
+    private static void swap(long[] keys, int[] index, int i, int j) {
+        OperationCounters.swap();
+        long key = keys[i];
+        keys[i] = keys[j];
+        keys[j] = key;
+        int idx = index[i];
+        index[i] = index[j];
+        index[j] = idx;
+    }
+    
+    @Override
+    public String getName() {
+        return "DualPivotQuickSort";
+    }
+    
+    @Override
+    public String getDescription() {
+        return "Quicksort de dois pivôs (Yaroslavskiy), base do Arrays.sort para primitivos no Java";
+    }
+    
+    @Override
+    public String getTimeComplexity() {
+        return "O(n log n) médio e pior caso";
+    }
+    
+    @Override
+    public String getSpaceComplexity() {
+        return "O(log n)";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,339 @@
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+// Merge sort externo para catálogos maiores que o heap: o arquivo é lido em blocos
+// de tamanho limitado, cada bloco é ordenado em memória com o SortingAlgorithm
+// escolhido e gravado como um run em temp.path; os runs são intercalados por uma
+// árvore de perdedores (k-way merge) diretamente no arquivo de saída.
+public class ExternalSorter {
+    private static final int ESTIMATED_BYTES_PER_IMAGE = 512; // objeto + strings + chaves da ordenação
+    private static final int MIN_CHUNK_SIZE = 10000;
+    private static final int MAX_FAN_IN = 128;                // runs abertos ao mesmo tempo por merge
+    private static final int IO_BUFFER = 1 << 16;
+    private static final long PROGRESS_INTERVAL = 1000000;
+    
+    public interface ProgressListener {
+        void onProgress(String phase, long lines, long bytes, long elapsedNanos);
+    }
+    
+    private final SortingAlgorithm algorithm;
+    private final int chunkSize;
+    private final File tempDir;
+    private ProgressListener listener = ExternalSorter::printProgress;
+    
+    public ExternalSorter(SortingAlgorithm algorithm) {
+        this(algorithm,
+             AppConfig.getInt("external.chunk.size", defaultChunkSize()),
+             new File(AppConfig.getString("temp.path", System.getProperty("java.io.tmpdir"))));
+    }
+    
+    public ExternalSorter(SortingAlgorithm algorithm, int chunkSize, File tempDir) {
+        this.algorithm = algorithm;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.tempDir = tempDir;
+    }
+    
+    // Um quarto do heap para o bloco em memória; o resto fica para buffers e para o GC
+    private static int defaultChunkSize() {
+        long budget = Runtime.getRuntime().maxMemory() / 4;
+        return (int) Math.max(MIN_CHUNK_SIZE, Math.min(Integer.MAX_VALUE - 8, budget / ESTIMATED_BYTES_PER_IMAGE));
+    }
+    
+    public void setProgressListener(ProgressListener listener) {
+        this.listener = listener;
+    }
+    
+    public Result sort(File input, File output, String sortCriteria) throws IOException {
+        long start = System.nanoTime();
+        Comparator<SatelliteImage> comparator = SortKeys.comparator(sortCriteria);
+        if (!tempDir.exists() && !tempDir.mkdirs()) {
+            throw new IOException("Não foi possível criar o diretório temporário: " + tempDir);
+        }
+        
+        List<File> runs = new ArrayList<>();
+        List<File> merged = new ArrayList<>(); // runs da passada intermediária em andamento
+        int runCount = 0;
+        long lines = 0;
+        long skipped = 0;
+        long bytesRead = 0;
+        long bytesWritten = 0;
+        
+        try {
+            // 1) Runs ordenados de até chunkSize imagens
+            // Bytes lidos contados no próprio stream (UTF-8 e \r\n incluídos), não em chars
+            CountingInputStream counter = new CountingInputStream(new FileInputStream(input));
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(counter, StandardCharsets.UTF_8), IO_BUFFER)) {
+                List<SatelliteImage> chunk = new ArrayList<>(Math.min(chunkSize, 1 << 20));
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    bytesRead = counter.getCount();
+                    SatelliteImage image = ImageLoader.parseLine(line);
+                    if (image == null) {
+                        skipped++;
+                        continue;
+                    }
+                    chunk.add(image);
+                    lines++;
+                    
+                    if (chunk.size() == chunkSize) {
+                        bytesWritten += spill(chunk, sortCriteria, runs);
+                        listener.onProgress("run " + runs.size(), lines, bytesRead, System.nanoTime() - start);
+                        chunk.clear();
+                    }
+                }
+                bytesRead = counter.getCount();
+                if (!chunk.isEmpty() || runs.isEmpty()) {
+                    bytesWritten += spill(chunk, sortCriteria, runs);
+                    listener.onProgress("run " + runs.size(), lines, bytesRead, System.nanoTime() - start);
+                }
+            }
+            runCount = runs.size();
+            
+            // 2) Passadas intermediárias só se houver mais runs que MAX_FAN_IN
+            while (runs.size() > MAX_FAN_IN) {
+                merged = new ArrayList<>();
+                for (int from = 0; from < runs.size(); from += MAX_FAN_IN) {
+                    List<File> group = runs.subList(from, Math.min(from + MAX_FAN_IN, runs.size()));
+                    // Registrado antes do merge: se ele falhar, o finally também apaga este run
+                    File run = File.createTempFile("merge-", ".run", tempDir);
+                    merged.add(run);
+                    bytesWritten += merge(group, run, comparator, lines, start);
+                    deleteAll(group);
+                }
+                runs = merged;
+            }
+            
+            // 3) Merge final direto no arquivo de saída
+            bytesWritten += merge(runs, output, comparator, lines, start);
+        } finally {
+            deleteAll(runs);
+            deleteAll(merged);
+        }
+        
+        Result result = new Result(lines, skipped, runCount, bytesRead, bytesWritten, System.nanoTime() - start);
+        listener.onProgress("concluído", lines, bytesRead + bytesWritten, result.getElapsedNanos());
+        return result;
+    }
+    
+    private long spill(List<SatelliteImage> chunk, String sortCriteria, List<File> runs) throws IOException {
+        algorithm.sort(chunk, sortCriteria);
+        File run = File.createTempFile("run-", ".run", tempDir);
+        runs.add(run);
+        
+        long bytes = 0;
+        try (BufferedWriter writer = newWriter(run)) {
+            for (SatelliteImage image : chunk) {
+                String line = ImageLoader.formatLine(image);
+                writer.write(line);
+                writer.write('\n');
+                bytes += utf8Length(line) + 1;
+            }
+        }
+        return bytes;
+    }
+    
+    private long merge(List<File> runs, File output, Comparator<SatelliteImage> comparator,
+                       long totalLines, long start) throws IOException {
+        int k = runs.size();
+        BufferedReader[] readers = new BufferedReader[k];
+        SatelliteImage[] heads = new SatelliteImage[k];
+        long bytes = 0;
+        long written = 0;
+        
+        try (BufferedWriter writer = newWriter(output)) {
+            for (int i = 0; i < k; i++) {
+                readers[i] = new BufferedReader(
+                    new InputStreamReader(new FileInputStream(runs.get(i)), StandardCharsets.UTF_8), IO_BUFFER);
+                heads[i] = next(readers[i]);
+            }
+            
+            LoserTree tree = new LoserTree(heads, comparator);
+            for (int winner = tree.winner(); heads[winner] != null; winner = tree.winner()) {
+                String line = ImageLoader.formatLine(heads[winner]);
+                writer.write(line);
+                writer.write('\n');
+                bytes += utf8Length(line) + 1;
+                
+                if (++written % PROGRESS_INTERVAL == 0) {
+                    listener.onProgress(String.format("merge %d%%", written * 100 / Math.max(1, totalLines)),
+                                        written, bytes, System.nanoTime() - start);
+                }
+                
+                heads[winner] = next(readers[winner]);
+                tree.replay(winner);
+            }
+        } finally {
+            for (BufferedReader reader : readers) {
+                if (reader != null) reader.close();
+            }
+        }
+        return bytes;
+    }
+    
+    private static SatelliteImage next(BufferedReader reader) throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            SatelliteImage image = ImageLoader.parseLine(line);
+            if (image != null) return image;
+        }
+        return null;
+    }
+    
+    // Tamanho da linha codificada em UTF-8, sem alocar o byte[] ("Amazônia" tem 8 chars e 9 bytes)
+    static int utf8Length(String s) {
+        int bytes = s.length();
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c >= 0x80) {
+                if (c < 0x800) {
+                    bytes++;
+                } else if (Character.isHighSurrogate(c) && i + 1 < s.length() && Character.isLowSurrogate(s.charAt(i + 1))) {
+                    bytes += 2; // par substituto: 4 bytes para 2 chars
+                    i++;
+                } else {
+                    bytes += 2;
+                }
+            }
+        }
+        return bytes;
+    }
+    
+    private static BufferedWriter newWriter(File file) throws IOException {
+        return new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8), IO_BUFFER);
+    }
+    
+    private static void deleteAll(List<File> files) {
+        for (File file : files) {
+            file.delete();
+        }
+    }
+    
+    private static void printProgress(String phase, long lines, long bytes, long elapsedNanos) {
+        double seconds = Math.max(elapsedNanos, 1) / 1e9;
+        System.out.printf("💽 Ordenação externa | %-12s | %,d linhas | %,.1f MB | %,.1f MB/s%n",
+                          phase, lines, bytes / 1048576.0, bytes / 1048576.0 / seconds);
+    }
+    
+    private static final class CountingInputStream extends FilterInputStream {
+        private long count;
+        
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+        
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) count++;
+            return b;
+        }
+        
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) count += n;
+            return n;
+        }
+        
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+        
+        long getCount() { return count; }
+    }
+    
+    // Árvore de perdedores: cada nó interno guarda o perdedor do confronto e tree[0] o
+    // vencedor geral. Trocar o item de um run custa log2(k) comparações, só no caminho
+    // até a raiz. Run esgotado (null) perde sempre; empates vão para o run de menor
+    // índice, o que mantém o merge estável.
+    private static final class LoserTree {
+        private final SatelliteImage[] heads;
+        private final Comparator<SatelliteImage> comparator;
+        private final int[] tree;
+        private final int k;
+        
+        LoserTree(SatelliteImage[] heads, Comparator<SatelliteImage> comparator) {
+            this.heads = heads;
+            this.comparator = comparator;
+            this.k = heads.length;
+            this.tree = new int[Math.max(1, k)];
+            tree[0] = k == 1 ? 0 : build(1);
+        }
+        
+        // Folhas nas posições k..2k-1; devolve o vencedor da subárvore
+        private int build(int node) {
+            if (node >= k) return node - k;
+            int left = build(2 * node);
+            int right = build(2 * node + 1);
+            if (beats(left, right)) {
+                tree[node] = right;
+                return left;
+            }
+            tree[node] = left;
+            return right;
+        }
+        
+        void replay(int leaf) {
+            int winner = leaf;
+            for (int node = (leaf + k) >>> 1; node >= 1; node >>>= 1) {
+                if (beats(tree[node], winner)) {
+                    int loser = winner;
+                    winner = tree[node];
+                    tree[node] = loser;
+                }
+            }
+            tree[0] = winner;
+        }
+        
+        int winner() {
+            return tree[0];
+        }
+        
+        private boolean beats(int a, int b) {
+            if (heads[a] == null) return false;
+            if (heads[b] == null) return true;
+            int cmp = comparator.compare(heads[a], heads[b]);
+            return cmp < 0 || (cmp == 0 && a < b);
+        }
+    }
+    
+    public static final class Result {
+        private final long lines;
+        private final long skippedLines;
+        private final int runs;
+        private final long bytesRead;
+        private final long bytesWritten;
+        private final long elapsedNanos;
+        
+        Result(long lines, long skippedLines, int runs, long bytesRead, long bytesWritten, long elapsedNanos) {
+            this.lines = lines;
+            this.skippedLines = skippedLines;
+            this.runs = runs;
+            this.bytesRead = bytesRead;
+            this.bytesWritten = bytesWritten;
+            this.elapsedNanos = elapsedNanos;
+        }
+        
+        public long getLines() { return lines; }
+        public long getSkippedLines() { return skippedLines; }
+        public int getRuns() { return runs; }
+        public long getBytesRead() { return bytesRead; }
+        public long getBytesWritten() { return bytesWritten; }
+        public long getElapsedNanos() { return elapsedNanos; }
+        
+        public double getThroughputMBps() {
+            return (bytesRead + bytesWritten) / 1048576.0 / Math.max(elapsedNanos, 1) * 1e9;
+        }
+        
+        @Override
+        public String toString() {
+            return String.format("%,d linhas em %d runs | %,d ms | %,.1f MB/s | %,d linhas inválidas",
+                                 lines, runs, elapsedNanos / 1000000, getThroughputMBps(), skippedLines);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,280 @@
+import java.io.*;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+
+// Execução sem interface gráfica (servidores de benchmark sem display): roda os testes do
+// MainController a partir de flags de linha de comando e do config.properties, grava os
+// resultados em CSV/JSON e devolve um código de saída para scripts de campanha.
+//   0 = todas as ordenações OK | 1 = alguma ordenação falhou | 2 = argumentos ou exportação inválidos
+public class HeadlessRunner {
+    static final int EXIT_OK = 0;
+    static final int EXIT_FAILED_SORT = 1;
+    static final int EXIT_ERROR = 2;
+    
+    private static final Map<String, String> DATA_TYPE_ALIASES = new HashMap<>();
+    static {
+        // Apelidos ASCII, os mesmos do módulo de benchmarks (terminais sem UTF-8)
+        DATA_TYPE_ALIASES.put("random", "Aleatório");
+        DATA_TYPE_ALIASES.put("sorted", "Ordenado");
+        DATA_TYPE_ALIASES.put("reversed", "Reverso");
+        DATA_TYPE_ALIASES.put("nearlySorted", "Quase Ordenado");
+        DATA_TYPE_ALIASES.put("external", "Externo");
+    }
+    
+    private String mode;
+    private String algorithm;
+    private String dataType;
+    private int dataSize;
+    private String sortCriteria;
+    private String format;
+    private String output;
+    private int repeat;
+    private int topK;
+    private int appendSize;
+    private String externalInput;
+    private String externalOutput;
+    
+    public static void main(String[] args) {
+        System.exit(run(args));
+    }
+    
+    public static int run(String[] args) {
+        HeadlessRunner runner = new HeadlessRunner();
+        try {
+            if (!runner.parse(args)) {
+                printUsage(System.out);
+                return EXIT_OK;
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println("❌ " + e.getMessage());
+            printUsage(System.err);
+            return EXIT_ERROR;
+        }
+        return runner.execute();
+    }
+    
+    // Valores padrão vêm do config.properties; as flags têm precedência
+    private boolean parse(String[] args) {
+        // --config precisa ser lido antes de qualquer acesso ao AppConfig
+        for (int i = 0; i < args.length - 1; i++) {
+            if (args[i].equals("--config")) {
+                System.setProperty("config.file", args[i + 1]);
+            }
+        }
+        
+        mode = AppConfig.getString("benchmark.mode", "comparative");
+        algorithm = AppConfig.getString("default.algorithm", "QuickSort");
+        dataType = AppConfig.getString("benchmark.data.type", "Aleatório");
+        dataSize = AppConfig.getInt("default.data.size", 100000);
+        sortCriteria = AppConfig.getString("benchmark.sort.criteria", "id");
+        format = AppConfig.getString("benchmark.format", "csv");
+        output = null;
+        repeat = AppConfig.getInt("benchmark.repeat", 1);
+        topK = AppConfig.getInt("benchmark.top.k", 100);
+        appendSize = AppConfig.getInt("benchmark.append.size", 1000);
+        
+        for (int i = 0; i < args.length; i++) {
+            String flag = args[i];
+            if (flag.equals("--help") || flag.equals("-h")) {
+                return false;
+            }
+            if (flag.equals("--headless")) {
+                continue;
+            }
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Valor ausente para " + flag);
+            }
+            String value = args[++i];
+            switch (flag) {
+                case "--config": break;
+                case "--mode": mode = value; break;
+                case "--algorithm": algorithm = value; break;
+                case "--data-type": dataType = value; break;
+                case "--size": dataSize = parseInt(flag, value); break;
+                case "--criteria": sortCriteria = value; break;
+                case "--format": format = value; break;
+                case "--output": output = value; break;
+                case "--repeat": repeat = parseInt(flag, value); break;
+                case "--top-k": topK = parseInt(flag, value); break;
+                case "--append": appendSize = parseInt(flag, value); break;
+                case "--external":
+                    if (i + 1 >= args.length) {
+                        throw new IllegalArgumentException("--external precisa de ENTRADA e SAÍDA");
+                    }
+                    externalInput = value;
+                    externalOutput = args[++i];
+                    break;
+                default:
+                    throw new IllegalArgumentException("Opção desconhecida: " + flag);
+            }
+        }
+        
+        mode = mode.toLowerCase();
+        if (!Arrays.asList("single", "comparative", "scalability", "topk", "incremental", "columnar", "all").contains(mode)) {
+            throw new IllegalArgumentException("Modo inválido: " + mode);
+        }
+        dataType = DATA_TYPE_ALIASES.getOrDefault(dataType, dataType);
+        int maxSize = AppConfig.getInt("max.data.size", 10000000);
+        if (dataSize <= 0 || dataSize > maxSize) {
+            throw new IllegalArgumentException("Tamanho fora do intervalo 1.." + maxSize + ": " + dataSize);
+        }
+        if (repeat <= 0) {
+            throw new IllegalArgumentException("--repeat deve ser positivo: " + repeat);
+        }
+        if (topK <= 0) {
+            throw new IllegalArgumentException("--top-k deve ser positivo: " + topK);
+        }
+        if (appendSize <= 0) {
+            throw new IllegalArgumentException("--append deve ser positivo: " + appendSize);
+        }
+        format = format.toLowerCase();
+        if (output != null && output.toLowerCase().endsWith(".json")) {
+            format = "json";
+        } else if (output != null && output.toLowerCase().endsWith(".csv")) {
+            format = "csv";
+        }
+        if (!format.equals("csv") && !format.equals("json")) {
+            throw new IllegalArgumentException("Formato inválido: " + format + " (use csv ou json)");
+        }
+        return true;
+    }
+    
+    private int execute() {
+        // Só o construtor: carrega algoritmos e dados, sem initialize() (que cria a MainFrame)
+        MainController controller = new MainController();
+        
+        // default.algorithm usa os nomes dos kernels ("Dual-Pivot Quick Sort"): aceita os dois
+        String algorithmName = resolveAlgorithm(controller, algorithm);
+        if (algorithmName == null && (externalInput != null || !mode.equals("comparative"))) {
+            System.err.println("❌ Algoritmo não encontrado: " + algorithm +
+                             " (disponíveis: " + String.join(", ", controller.getAlgorithmNames()) + ")");
+            return EXIT_ERROR;
+        }
+        // Os testes comparativo e de escalabilidade só registram erros por algoritmo:
+        // tipo de dados ou critério composto inválido é recusado aqui, antes de qualquer execução
+        try {
+            controller.prepareTestData(dataType, 1);
+            SortKeys.comparator(sortCriteria);
+        } catch (IllegalArgumentException e) {
+            System.err.println("❌ " + e.getMessage());
+            return EXIT_ERROR;
+        }
+        
+        if (externalInput != null) {
+            return sortExternally(controller, algorithmName);
+        }
+        
+        int errors = 0; // exceções em single (os outros modos contam em getFailedTestCount)
+        for (int run = 1; run <= repeat; run++) {
+            if (repeat > 1) {
+                System.out.println("\n🔁 EXECUÇÃO " + run + " de " + repeat);
+            }
+            try {
+                switch (mode) {
+                    case "single":
+                        controller.runSortingTest(algorithmName, dataType, dataSize, sortCriteria);
+                        break;
+                    case "comparative":
+                        controller.performComparativeTest(dataSize, dataType, sortCriteria);
+                        break;
+                    case "scalability":
+                        controller.performScalabilityTest(algorithmName, dataSize, dataType, sortCriteria);
+                        break;
+                    case "topk":
+                        controller.runTopKBenchmark(algorithmName, dataType, dataSize, sortCriteria, topK);
+                        break;
+                    case "incremental":
+                        controller.runIncrementalBenchmark(algorithmName, dataType, dataSize, appendSize, sortCriteria);
+                        break;
+                    case "columnar":
+                        controller.runColumnarBenchmark(algorithmName, dataType, dataSize, sortCriteria);
+                        break;
+                    default:
+                        controller.performComparativeTest(dataSize, dataType, sortCriteria);
+                        controller.performScalabilityTest(algorithmName, dataSize, dataType, sortCriteria);
+                }
+            } catch (RuntimeException e) {
+                errors++;
+                System.err.println("❌ Erro no algoritmo " + algorithmName + ": " + e.getMessage());
+            }
+        }
+        
+        String filename = output != null ? output : defaultOutput();
+        try {
+            File parent = new File(filename).getAbsoluteFile().getParentFile();
+            if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+                throw new IOException("não foi possível criar " + parent);
+            }
+            controller.writeResults(filename, format.equals("json"));
+        } catch (IOException e) {
+            System.err.println("❌ Erro ao exportar resultados: " + e.getMessage());
+            return EXIT_ERROR;
+        }
+        
+        List<PerformanceResult> history = controller.getTestHistory();
+        int failedSorts = errors + controller.getFailedTestCount();
+        for (PerformanceResult result : history) {
+            if (!result.isSuccess()) failedSorts++;
+        }
+        System.out.println("\n📊 " + history.size() + " resultados exportados para: " + filename);
+        if (failedSorts > 0) {
+            System.err.println("❌ " + failedSorts + " ordenação(ões) falharam");
+            return EXIT_FAILED_SORT;
+        }
+        return EXIT_OK;
+    }
+    
+    // Arquivo maior que o heap: ordenado em runs no temp.path, sem campanha nem exportação
+    private int sortExternally(MainController controller, String algorithmName) {
+        try {
+            controller.sortFileExternally(externalInput, externalOutput, algorithmName, sortCriteria);
+            return EXIT_OK;
+        } catch (IOException e) {
+            System.err.println("❌ Erro na ordenação externa: " + e.getMessage());
+            return EXIT_ERROR;
+        }
+    }
+    
+    private String defaultOutput() {
+        String stamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
+        return new File(AppConfig.getString("export.path", "./exports/"), "benchmark_" + stamp + "." + format).getPath();
+    }
+    
+    private static String resolveAlgorithm(MainController controller, String name) {
+        if (controller.getAlgorithm(name) != null) return name;
+        String compact = name.replace(" ", "").replace("-", "");
+        for (String candidate : controller.getAlgorithmNames()) {
+            if (candidate.equalsIgnoreCase(compact)) return candidate;
+        }
+        return null;
+    }
+    
+    private static int parseInt(String flag, String value) {
+        try {
+            return Integer.parseInt(value.replace("_", ""));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Valor inválido para " + flag + ": " + value);
+        }
+    }
+    
+    private static void printUsage(PrintStream out) {
+        out.println("Uso: java Main [opções]   (ou java HeadlessRunner [opções])");
+        out.println("  --mode single|comparative|scalability|topk|incremental|columnar|all  (benchmark.mode, padrão comparative)");
+        out.println("  --algorithm NOME     algoritmo de single/scalability/topk/incremental/columnar (default.algorithm)");
+        out.println("  --data-type TIPO     Aleatório|Ordenado|Reverso|Quase Ordenado|Externo ou");
+        out.println("                       random|sorted|reversed|nearlySorted|external (benchmark.data.type)");
+        out.println("  --size N             tamanho (máximo em scalability) (default.data.size)");
+        out.println("  --criteria C         critério de ordenação, ex.: region,quality,-timestamp (benchmark.sort.criteria)");
+        out.println("  --top-k K            topk: seleciona os K primeiros e compara com a ordenação completa (benchmark.top.k, padrão 100)");
+        out.println("  --append N           incremental: lote de N imagens inserido no índice ordenado do catálogo,");
+        out.println("                       contra reordenar tudo (benchmark.append.size, padrão 1000)");
+        out.println("  --external ENTRADA SAÍDA  ordena o arquivo ENTRADA (qualquer tamanho) em SAÍDA com --algorithm");
+        out.println("                       e --criteria, em vez da campanha (runs em temp.path)");
+        out.println("  --repeat N           repete a campanha N vezes (benchmark.repeat)");
+        out.println("  --format csv|json    formato do arquivo (benchmark.format; .csv/.json no --output têm precedência)");
+        out.println("  --output ARQUIVO     padrão: export.path/benchmark_<data>.<formato>");
+        out.println("  --config ARQUIVO     outro config.properties");
+        out.println("Saída: 0 = OK, 1 = alguma ordenação falhou, 2 = argumentos ou exportação inválidos");
+    }
+}
\ No newline at end of file
@@ -2,43 +2,120 @@ import java.util.List;
 
 public class HeapSort implements SortingAlgorithm {
     
+    // A partir daqui o heap 4-ário compensa: metade dos níveis e filhos contíguos na mesma linha de cache
+    private static final int QUATERNARY_THRESHOLD = 1 << 16;
+    
+    private final int arity; // 2, 4 ou 0 (automático pelo tamanho)
+    
+    public HeapSort() {
+        this(0);
+    }
+    
+    public HeapSort(int arity) {
+        if (arity != 0 && arity != 2 && arity != 4) {
+            throw new IllegalArgumentException("Aridade de heap não suportada: " + arity);
+        }
+        this.arity = arity;
+    }
+    
     @Override
-    public void sort(List<SatelliteImage> images) {
-        int n = images.size();
+    public void sort(List<SatelliteImage> images, String sortCriteria) {
+        if (images == null || images.size() <= 1) return;
+        SortKeys sortKeys = SortKeys.extract(images, sortCriteria);
+        long[] keys = sortKeys.keys;
+        int[] index = sortKeys.index;
+        int n = keys.length;
         
+        boolean quaternary = arity == 4 || (arity == 0 && n >= QUATERNARY_THRESHOLD);
+        if (quaternary) {
+            heapSort4(keys, index, n);
+        } else {
+            heapSort2(keys, index, n);
+        }
+        
+        sortKeys.applyTo(images);
+    }
+    
+    private void heapSort2(long[] keys, int[] index, int n) {
         for (int i = n / 2 - 1; i >= 0; i--) {
-            heapify(images, n, i);
+            siftDown2(keys, index, i, n, keys[i], index[i]);
         }
         
         for (int i = n - 1; i > 0; i--) {
-            SatelliteImage temp = images.get(0);
-            images.set(0, images.get(i));
-            images.set(i, temp);
-            
-            heapify(images, i, 0);
+            long key = keys[i];
+            int idx = index[i];
+            keys[i] = keys[0];
+            index[i] = index[0];
+            OperationCounters.swap(); // raiz <-> último, feita em dois tempos com o buraco
+            siftDown2(keys, index, 0, i, key, idx);
         }
     }
     
-    private void heapify(List<SatelliteImage> images, int n, int i) {
-        int largest = i;
-        int left = 2 * i + 1;
-        int right = 2 * i + 2;
+    // Floyd: desce o "buraco" até uma folha seguindo o maior filho (1 comparação por nível)
+    // e depois sobe o elemento a partir dali; ele quase sempre pertence perto do fundo
+    private void siftDown2(long[] keys, int[] index, int root, int n, long key, int idx) {
+        int hole = root;
+        int child;
+        while ((child = 2 * hole + 1) < n) {
+            if (child + 1 < n && OperationCounters.less(keys[child], keys[child + 1])) child++;
+            OperationCounters.move();
+            keys[hole] = keys[child];
+            index[hole] = index[child];
+            hole = child;
+        }
         
-        if (left < n && images.get(left).compareTo(images.get(largest)) > 0) {
-            largest = left;
+        while (hole > root) {
+            int parent = (hole - 1) >>> 1;
+            if (!OperationCounters.less(keys[parent], key)) break;
+            OperationCounters.move();
+            keys[hole] = keys[parent];
+            index[hole] = index[parent];
+            hole = parent;
+        }
+        keys[hole] = key;
+        index[hole] = idx;
+    }
+    
+    private void heapSort4(long[] keys, int[] index, int n) {
+        for (int i = (n - 2) / 4; i >= 0; i--) {
+            siftDown4(keys, index, i, n, keys[i], index[i]);
         }
         
-        if (right < n && images.get(right).compareTo(images.get(largest)) > 0) {
-            largest = right;
+        for (int i = n - 1; i > 0; i--) {
+            long key = keys[i];
+            int idx = index[i];
+            keys[i] = keys[0];
+            index[i] = index[0];
+            OperationCounters.swap(); // raiz <-> último, feita em dois tempos com o buraco
+            siftDown4(keys, index, 0, i, key, idx);
+        }
+    }
+    
+    private void siftDown4(long[] keys, int[] index, int root, int n, long key, int idx) {
+        int hole = root;
+        int first;
+        while ((first = 4 * hole + 1) < n) {
+            int child = first;
+            int last = Math.min(first + 4, n);
+            for (int c = first + 1; c < last; c++) {
+                if (OperationCounters.less(keys[child], keys[c])) child = c;
+            }
+            OperationCounters.move();
+            keys[hole] = keys[child];
+            index[hole] = index[child];
+            hole = child;
         }
         
-        if (largest != i) {
-            SatelliteImage swap = images.get(i);
-            images.set(i, images.get(largest));
-            images.set(largest, swap);
-            
-            heapify(images, n, largest);
+        while (hole > root) {
+            int parent = (hole - 1) >>> 2;
+            if (!OperationCounters.less(keys[parent], key)) break;
+            OperationCounters.move();
+            keys[hole] = keys[parent];
+            index[hole] = index[parent];
+            hole = parent;
         }
+        keys[hole] = key;
+        index[hole] = idx;
     }
     
     @Override
@@ -48,7 +125,7 @@ public class HeapSort implements SortingAlgorithm {
     
     @Override
     public String getDescription() {
-        return "Algoritmo de ordenação baseado em estrutura de dados heap";
+        return "Heapsort bottom-up (Floyd) iterativo, com heap 4-ário em entradas grandes";
     }
     
     @Override
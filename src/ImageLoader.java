@@ -10,6 +10,15 @@ public class ImageLoader {
     
     private static final String[] QUALITIES = {"Alta", "Média", "Baixa"};
     
+    // Valores conhecidos entram no dicionário compartilhado já no carregamento da classe,
+    // com códigos estáveis; valores novos vindos de arquivos são codificados ao parsear
+    static {
+        for (String quality : QUALITIES) CategoryDictionary.QUALITY.encode(quality);
+        for (String region : REGIONS) CategoryDictionary.REGION.encode(region);
+        CategoryDictionary.REGION.encode("Amazônia");
+        CategoryDictionary.REGION.encode("Aleatório");
+    }
+    
     public static List<SatelliteImage> loadFromFile(String filename) {
         List<SatelliteImage> images = new ArrayList<>();
         
@@ -20,32 +29,30 @@ public class ImageLoader {
                 return generateSampleData(100000);
             }
             
+            // Limite em memória vem de max.data.size; arquivos maiores devem usar o ExternalSorter
+            int limit = AppConfig.getInt("max.data.size", 10000000);
             BufferedReader reader = new BufferedReader(new FileReader(file));
             String line;
             int count = 0;
+            boolean truncated = false;
             
-            while ((line = reader.readLine()) != null && count < 100000) {
-                String[] parts = line.split(",");
-                if (parts.length >= 5) {
-                    try {
-                        SatelliteImage image = new SatelliteImage(
-                            parts[0].trim(),
-                            Double.parseDouble(parts[1].trim()),
-                            Double.parseDouble(parts[2].trim()),
-                            Long.parseLong(parts[3].trim()),
-                            parts[4].trim(),
-                            parts.length > 5 ? parts[5].trim() : "Amazônia",
-                            parts.length > 6 ? Integer.parseInt(parts[6].trim()) : 2048
-                        );
-                        images.add(image);
-                        count++;
-                    } catch (NumberFormatException e) {
-                        System.err.println("Erro ao parsear linha: " + line);
-                    }
+            while ((line = reader.readLine()) != null) {
+                if (count >= limit) {
+                    truncated = true;
+                    break;
+                }
+                SatelliteImage image = parseLine(line);
+                if (image != null) {
+                    images.add(image);
+                    count++;
                 }
             }
             reader.close();
             System.out.println("Carregadas " + images.size() + " imagens do arquivo.");
+            if (truncated) {
+                System.err.println("⚠️ Arquivo " + filename + " excede max.data.size (" + limit +
+                                   " imagens); o restante foi ignorado. Use java Main --external para ordená-lo por completo.");
+            }
             
         } catch (IOException e) {
             System.err.println("Erro ao carregar arquivo: " + e.getMessage());
@@ -55,6 +62,33 @@ public class ImageLoader {
         return images;
     }
     
+    // Uma linha "id,lat,lon,timestamp,qualidade[,região[,tamanhoKB]]"; null se inválida
+    static SatelliteImage parseLine(String line) {
+        String[] parts = line.split(",");
+        if (parts.length < 5) return null;
+        try {
+            return new SatelliteImage(
+                parts[0].trim(),
+                Double.parseDouble(parts[1].trim()),
+                Double.parseDouble(parts[2].trim()),
+                Long.parseLong(parts[3].trim()),
+                parts[4].trim(),
+                parts.length > 5 ? parts[5].trim() : "Amazônia",
+                parts.length > 6 ? Integer.parseInt(parts[6].trim()) : 2048
+            );
+        } catch (NumberFormatException e) {
+            System.err.println("Erro ao parsear linha: " + line);
+            return null;
+        }
+    }
+    
+    // Formato inverso de parseLine, sem perda de precisão nas coordenadas
+    static String formatLine(SatelliteImage image) {
+        return image.getImageId() + "," + image.getLatitude() + "," + image.getLongitude() + "," +
+               image.getTimestamp() + "," + image.getQuality() + "," + image.getRegion() + "," +
+               image.getSizeKB();
+    }
+    
     public static List<SatelliteImage> generateSampleData(int count) {
         List<SatelliteImage> images = new ArrayList<>();
         Random random = new Random();
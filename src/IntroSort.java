@@ -0,0 +1,131 @@
+import java.util.List;
+
+public class IntroSort implements SortingAlgorithm {
+    private static final int INSERTION_THRESHOLD = 16;
+    
+    @Override
+    public void sort(List<SatelliteImage> images, String sortCriteria) {
+        if (images == null || images.size() <= 1) return;
+        SortKeys keys = SortKeys.extract(images, sortCriteria);
+        int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(keys.size()));
+        introSort(keys.keys, keys.index, 0, keys.size() - 1, depthLimit);
+        keys.applyTo(images);
+    }
+    
+    // Introsort de Musser: quicksort com mediana de três, heapsort ao atingir o limite
+    // de profundidade e insertion sort nos trechos pequenos
+    private static void introSort(long[] keys, int[] index, int low, int high, int depthLimit) {
+        if (high - low > INSERTION_THRESHOLD) {
+            if (depthLimit == 0) {
+                heapSort(keys, index, low, high);
+                return;
+            }
+            
+            int pivot = partition(keys, index, low, high, medianOfThree(keys, index, low, high));
+            introSort(keys, index, low, pivot - 1, depthLimit - 1);
+            introSort(keys, index, pivot + 1, high, depthLimit - 1);
+        } else {
+            insertionSort(keys, index, low, high);
+        }
+    }
+    
+    private static int medianOfThree(long[] keys, int[] index, int low, int high) {
+        int mid = low + (high - low) / 2;
+        
+        if (OperationCounters.less(keys[mid], keys[low])) swap(keys, index, low, mid);
+        if (OperationCounters.less(keys[high], keys[low])) swap(keys, index, low, high);
+        if (OperationCounters.less(keys[high], keys[mid])) swap(keys, index, mid, high);
+        
+        return mid;
+    }
+    
+    private static int partition(long[] keys, int[] index, int low, int high, int pivotIndex) {
+        long pivotValue = keys[pivotIndex];
+        swap(keys, index, pivotIndex, high);
+        
+        int i = low;
+        for (int j = low; j < high; j++) {
+            if (OperationCounters.less(keys[j], pivotValue)) {
+                swap(keys, index, i, j);
+                i++;
+            }
+        }
+        swap(keys, index, i, high);
+        return i;
+    }
+    
+    private static void heapSort(long[] keys, int[] index, int low, int high) {
+        int n = high - low + 1;
+        
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            heapify(keys, index, n, i, low);
+        }
+        
+        for (int i = n - 1; i > 0; i--) {
+            swap(keys, index, low, low + i);
+            heapify(keys, index, i, 0, low);
+        }
+    }
+    
+    private static void heapify(long[] keys, int[] index, int n, int i, int offset) {
+        while (true) {
+            int largest = i;
+            int left = 2 * i + 1;
+            int right = 2 * i + 2;
+            
+            if (left < n && OperationCounters.less(keys[offset + largest], keys[offset + left])) largest = left;
+            if (right < n && OperationCounters.less(keys[offset + largest], keys[offset + right])) largest = right;
+            
+            if (largest == i) return;
+            swap(keys, index, offset + i, offset + largest);
+            i = largest;
+        }
+    }
+    
+    private static void insertionSort(long[] keys, int[] index, int left, int right) {
+        for (int i = left + 1; i <= right; i++) {
+            long key = keys[i];
+            int idx = index[i];
+            int j = i - 1;
+            
+            while (j >= left && OperationCounters.less(key, keys[j])) {
+                keys[j + 1] = keys[j];
+                index[j + 1] = index[j];
+                j--;
+            }
+            OperationCounters.moves(i - 1 - j); // deslocamentos
+            keys[j + 1] = key;
+            index[j + 1] = idx;
+        }
+    }
+    
+    private static void swap(long[] keys, int[] index, int i, int j) {
+        OperationCounters.swap();
+        long key = keys[i];
+        keys[i] = keys[j];
+        keys[j] = key;
+        int idx = index[i];
+        index[i] = index[j];
+        index[j] = idx;
+    }
+    
+    @Override
+    public String getName() {
+        return "IntroSort";
+    }
+    
+    @Override
+    public String getDescription() {
+        return "Introsort clássico: quicksort com mediana de três que cai para heapsort ao exceder 2·log n níveis";
+    }
+    
+    @Override
+    public String getTimeComplexity() {
+        return "O(n log n) em todos os casos";
+    }
+    
+    @Override
+    public String getSpaceComplexity() {
+        return "O(log n)";
+    }
+}
\ No newline at end of file
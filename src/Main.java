@@ -1,7 +1,13 @@
+import java.awt.GraphicsEnvironment;
 import javax.swing.SwingUtilities;
 
 public class Main {
     public static void main(String[] args) {
+        // Com argumentos, ou sem display (servidores de benchmark), roda sem interface gráfica
+        if (args.length > 0 || GraphicsEnvironment.isHeadless()) {
+            System.exit(HeadlessRunner.run(args));
+        }
+        
         SwingUtilities.invokeLater(() -> {
             try {
                 System.out.println("=== SISTEMA DE COMPARAÇÃO DE ALGORITMOS DE ORDENAÇÃO ===");
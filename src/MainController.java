@@ -7,10 +7,12 @@ public class MainController {
     private List<SatelliteImage> satelliteImages;
     private Map<String, SortingAlgorithm> algorithms;
     private List<PerformanceResult> testHistory;
+    private Map<String, SortedIndex> sortedIndexes = new HashMap<>(); // criados sob demanda, por critério
+    private int failedTests; // execuções que lançaram exceção (não entram no testHistory)
     
     public MainController() {
         this.satelliteImages = new ArrayList<>();
-        this.algorithms = new HashMap<>();
+        this.algorithms = new LinkedHashMap<>(); // mantém a ordem de registro na interface
         this.testHistory = new ArrayList<>();
         initializeAlgorithms();
         loadSatelliteData();
@@ -33,6 +35,22 @@ public class MainController {
         algorithms.put("HeapSort", new HeapSort());
         algorithms.put("TimSort", new TimSort());
         
+        // Variante paralela (threads conforme max.threads em config.properties)
+        algorithms.put("ParallelMergeSort", new ParallelMergeSort());
+        algorithms.put("ParallelSampleSort", new ParallelSampleSort());
+        
+        // Ordenação linear sobre as chaves primitivas (sem comparações)
+        algorithms.put("RadixSort", new RadixSort());
+        algorithms.put("MultikeyQuickSort", new MultikeyQuickSort());
+        
+        // Algoritmos que antes só existiam como kernels int[] no AnalyticsEngine
+        algorithms.put("IntroSort", new IntroSort());
+        algorithms.put("DualPivotQuickSort", new DualPivotQuickSort());
+        algorithms.put("BlockSort", new BlockSort());
+        
+        // Perfila a entrada e despacha para um dos algoritmos acima
+        algorithms.put("Auto", new AutoSort(algorithms));
+        
         System.out.println("🔧 ALGORITMOS DE ORDENAÇÃO CARREGADOS:");
         for (String algo : algorithms.keySet()) {
             SortingAlgorithm algorithm = algorithms.get(algo);
@@ -74,21 +92,25 @@ public class MainController {
         
         // MEDIR APENAS TEMPO DE ORDENAÇÃO (conforme requisito 2)
         Runtime runtime = Runtime.getRuntime();
-        runtime.gc(); // Coleta de lixo antes da medição
+        runtime.gc(); // Coleta de lixo antes da medição (não entra no delta do GC)
         
-        long memoryBefore = runtime.totalMemory() - runtime.freeMemory();
-        long startTime = System.nanoTime();
+        OperationCounters.reset();
+        ResourceMeter meter = ResourceMeter.start();
         
         // ⚡ EXECUTAR ORDENAÇÃO (apenas isso é medido - requisito 2)
-        algorithm.sort(testData);
+        algorithm.sort(testData, sortCriteria);
         
-        long endTime = System.nanoTime();
-        long memoryAfter = runtime.totalMemory() - runtime.freeMemory();
+        ResourceMeter.Usage usage = meter.stop();
+        if (algorithm.usesWorkerThreads()) {
+            usage = usage.asPartial(); // alocação e CPU das threads do pool ficam de fora
+        }
+        OperationCounters.Snapshot operations = OperationCounters.isEnabled() ? OperationCounters.snapshot() : null;
         
-        long executionTime = (endTime - startTime) / 1000000; // Converter para milissegundos
-        long memoryUsed = (memoryAfter - memoryBefore) / 1024; // Converter para KB
+        long executionTime = usage.getWallTimeNanos() / 1000000; // Converter para milissegundos
+        // Bytes alocados pela thread que ordenou (0 se a JVM não mede alocação por thread)
+        long memoryUsed = Math.max(0, usage.getAllocatedBytes()) / 1024; // Converter para KB
         
-        // Verificar se a ordenação foi bem-sucedida
+        // Verificar se a ordenação foi bem-sucedida (pelo mesmo critério usado na ordenação)
         boolean success = isSorted(testData, sortCriteria);
         
         PerformanceResult result = new PerformanceResult(
@@ -101,6 +123,14 @@ public class MainController {
             sortCriteria
         );
         
+        if (algorithm instanceof AutoSort) {
+            AutoSort auto = (AutoSort) algorithm;
+            result.setSelectedAlgorithm(auto.getLastChoice());
+            result.setInputProfile(String.valueOf(auto.getLastProfile()));
+        }
+        result.setOperationCounts(operations);
+        result.setResourceUsage(usage);
+        
         testHistory.add(result);
         
         System.out.println("✅ " + algorithmName + " | " + dataType + " | " + dataSize + 
@@ -112,17 +142,23 @@ public class MainController {
     
     // TESTE COMPARATIVO ENTRE TODOS OS ALGORITMOS
     public List<PerformanceResult> performComparativeTest(int dataSize, String dataType) {
+        return performComparativeTest(dataSize, dataType, "id");
+    }
+    
+    public List<PerformanceResult> performComparativeTest(int dataSize, String dataType, String sortCriteria) {
         System.out.println("\n🔬 INICIANDO TESTE COMPARATIVO");
-        System.out.println("📝 Tipo de Dados: " + dataType + " | Tamanho: " + dataSize + " elementos");
+        System.out.println("📝 Tipo de Dados: " + dataType + " | Tamanho: " + dataSize + " elementos" +
+                         " | Critério: " + sortCriteria);
         System.out.println("=" .repeat(60));
         
         List<PerformanceResult> results = new ArrayList<>();
         
         for (String algorithmName : algorithms.keySet()) {
             try {
-                PerformanceResult result = runSortingTest(algorithmName, dataType, dataSize, "id");
+                PerformanceResult result = runSortingTest(algorithmName, dataType, dataSize, sortCriteria);
                 results.add(result);
             } catch (Exception e) {
+                failedTests++;
                 System.err.println("❌ Erro no algoritmo " + algorithmName + ": " + e.getMessage());
             }
         }
@@ -132,17 +168,197 @@ public class MainController {
         
         System.out.println("=" .repeat(60));
         System.out.println("🏁 TESTE COMPARATIVO CONCLUÍDO");
-        System.out.println("🥇 Mais rápido: " + results.get(0).getAlgorithmName() + 
-                         " (" + results.get(0).getExecutionTime() + " ms)");
+        if (!results.isEmpty()) {
+            System.out.println("🥇 Mais rápido: " + results.get(0).getAlgorithmName() + 
+                             " (" + results.get(0).getExecutionTime() + " ms)");
+        }
         System.out.println("🎯 Total de algoritmos testados: " + results.size());
         
         return results;
     }
     
+    // INGESTÃO INCREMENTAL: novas imagens entram no catálogo e nos índices já criados,
+    // sem reordenar tudo de novo
+    public synchronized void addImages(List<SatelliteImage> images) {
+        satelliteImages.addAll(images);
+        for (SortedIndex index : sortedIndexes.values()) {
+            index.addAll(images);
+        }
+    }
+    
+    // Índice ordenado do catálogo pelo critério (construído na primeira consulta)
+    public synchronized SortedIndex getSortedIndex(String sortCriteria) {
+        SortedIndex index = sortedIndexes.get(sortCriteria);
+        if (index == null) {
+            index = new SortedIndex(sortCriteria);
+            index.addAll(satelliteImages);
+            sortedIndexes.put(sortCriteria, index);
+        }
+        return index;
+    }
+    
+    // TESTE INCREMENTAL: um lote novo entra no índice do critério (addImages) contra
+    // a reordenação do catálogo inteiro com o algoritmo escolhido. O catálogo é completado
+    // com dados aleatórios até 'dataSize' e cresce a cada chamada
+    public List<PerformanceResult> runIncrementalBenchmark(String algorithmName, String dataType, int dataSize,
+                                                          int batchSize, String sortCriteria) {
+        SortingAlgorithm algorithm = algorithms.get(algorithmName);
+        if (algorithm == null) {
+            throw new IllegalArgumentException("Algoritmo não encontrado: " + algorithmName);
+        }
+        
+        if (satelliteImages.size() < dataSize) {
+            addImages(ImageLoader.generateRandomData(dataSize - satelliteImages.size()));
+        }
+        long startTime = System.nanoTime();
+        SortedIndex index = getSortedIndex(sortCriteria);
+        long buildTime = (System.nanoTime() - startTime) / 1000000;
+        
+        List<SatelliteImage> batch = prepareTestData(dataType, batchSize);
+        startTime = System.nanoTime();
+        addImages(batch);
+        long appendTime = (System.nanoTime() - startTime) / 1000000;
+        
+        List<SatelliteImage> fullData = new ArrayList<>(satelliteImages);
+        startTime = System.nanoTime();
+        algorithm.sort(fullData, sortCriteria);
+        long fullTime = (System.nanoTime() - startTime) / 1000000;
+        
+        // O índice deve ter o catálogo inteiro, na mesma ordem (pelo critério) da ordenação completa
+        Comparator<SatelliteImage> comparator = SortKeys.comparator(sortCriteria);
+        boolean fullSuccess = isSorted(fullData, sortCriteria);
+        boolean indexSuccess = index.size() == fullData.size();
+        Iterator<SatelliteImage> it = index.iterator();
+        for (int i = 0; indexSuccess && i < fullData.size(); i++) {
+            indexSuccess = comparator.compare(it.next(), fullData.get(i)) == 0;
+        }
+        
+        int total = fullData.size();
+        List<PerformanceResult> results = new ArrayList<>();
+        results.add(new PerformanceResult("SortedIndex+" + batchSize, dataType, total, appendTime, 0, indexSuccess, sortCriteria));
+        results.add(new PerformanceResult(algorithmName, dataType, total, fullTime, 0, fullSuccess, sortCriteria));
+        testHistory.addAll(results);
+        
+        System.out.println("🧩 Lote de " + batchSize + " | " + dataType + " | catálogo com " + total + " imagens | " +
+                          appendTime + " ms no índice (" + index.getLeafCount() + " folhas, construção " + buildTime +
+                          " ms) vs " + algorithmName + " " + fullTime + " ms | Critério: " + sortCriteria +
+                          " | " + (indexSuccess && fullSuccess ? "OK" : "FALHA"));
+        
+        return results;
+    }
+    
+    // TESTE COLUNAR: o mesmo lote copiado para o ColumnarImageStore (colunas fora do heap,
+    // só a coluna de índices é permutada) contra o algoritmo escolhido sobre a List
+    public List<PerformanceResult> runColumnarBenchmark(String algorithmName, String dataType, int dataSize,
+                                                        String sortCriteria) {
+        SortingAlgorithm algorithm = algorithms.get(algorithmName);
+        if (algorithm == null) {
+            throw new IllegalArgumentException("Algoritmo não encontrado: " + algorithmName);
+        }
+        
+        List<SatelliteImage> testData = prepareTestData(dataType, dataSize);
+        ColumnarImageStore store = ColumnarImageStore.fromList(testData);
+        
+        long startTime = System.nanoTime();
+        store.sort(sortCriteria);
+        long columnarTime = (System.nanoTime() - startTime) / 1000000;
+        
+        startTime = System.nanoTime();
+        algorithm.sort(testData, sortCriteria);
+        long fullTime = (System.nanoTime() - startTime) / 1000000;
+        
+        // A ordem do armazenamento colunar deve coincidir (pelo critério) com a da List
+        Comparator<SatelliteImage> comparator = SortKeys.comparator(sortCriteria);
+        boolean fullSuccess = isSorted(testData, sortCriteria);
+        boolean columnarSuccess = store.size() == testData.size();
+        ColumnarImageStore.ImageView view = store.view();
+        for (int rank = 0; columnarSuccess && rank < testData.size(); rank++) {
+            columnarSuccess = comparator.compare(view.moveToRank(rank).toImage(), testData.get(rank)) == 0;
+        }
+        
+        long offHeapKB = store.getOffHeapBytes() / 1024;
+        List<PerformanceResult> results = new ArrayList<>();
+        results.add(new PerformanceResult("Columnar", dataType, dataSize, columnarTime, offHeapKB, columnarSuccess, sortCriteria));
+        results.add(new PerformanceResult(algorithmName, dataType, dataSize, fullTime, 0, fullSuccess, sortCriteria));
+        testHistory.addAll(results);
+        
+        System.out.println("🗄️ Colunar | " + dataType + " | " + dataSize + " elementos | " + columnarTime + " ms (" +
+                          offHeapKB + " KB fora do heap) vs " + algorithmName + " " + fullTime + " ms | Critério: " +
+                          sortCriteria + " | " + (columnarSuccess && fullSuccess ? "OK" : "FALHA"));
+        
+        return results;
+    }
+    
+    // ORDENAÇÃO EXTERNA: arquivos maiores que o heap, em runs gravados em temp.path
+    public ExternalSorter.Result sortFileExternally(String inputFile, String outputFile,
+                                                    String algorithmName, String sortCriteria) throws IOException {
+        SortingAlgorithm algorithm = algorithms.get(algorithmName);
+        if (algorithm == null) {
+            throw new IllegalArgumentException("Algoritmo não encontrado: " + algorithmName);
+        }
+        
+        System.out.println("\n💽 ORDENAÇÃO EXTERNA: " + inputFile + " → " + outputFile +
+                         " | " + algorithmName + " | Critério: " + sortCriteria);
+        ExternalSorter.Result result = new ExternalSorter(algorithm).sort(
+            new File(inputFile), new File(outputFile), sortCriteria);
+        System.out.println("✅ " + result);
+        return result;
+    }
+    
+    // TOP-K: apenas as k primeiras imagens pelo critério (ex.: "-timestamp" = mais recentes)
+    public List<SatelliteImage> getTopK(String sortCriteria, int k) {
+        return TopK.select(satelliteImages, sortCriteria, k);
+    }
+    
+    // TESTE TOP-K: seleção parcial contra a ordenação completa com o algoritmo escolhido
+    public List<PerformanceResult> runTopKBenchmark(String algorithmName, String dataType, int dataSize,
+                                                    String sortCriteria, int k) {
+        SortingAlgorithm algorithm = algorithms.get(algorithmName);
+        if (algorithm == null) {
+            throw new IllegalArgumentException("Algoritmo não encontrado: " + algorithmName);
+        }
+        
+        List<SatelliteImage> testData = prepareTestData(dataType, dataSize);
+        List<SatelliteImage> fullData = new ArrayList<>(testData);
+        
+        long startTime = System.nanoTime();
+        List<SatelliteImage> top = TopK.select(testData, sortCriteria, k);
+        long topKTime = (System.nanoTime() - startTime) / 1000000;
+        
+        startTime = System.nanoTime();
+        algorithm.sort(fullData, sortCriteria);
+        long fullTime = (System.nanoTime() - startTime) / 1000000;
+        
+        // O top-k deve coincidir, posição a posição, com o prefixo da ordenação completa
+        Comparator<SatelliteImage> comparator = SortKeys.comparator(sortCriteria);
+        boolean fullSuccess = isSorted(fullData, sortCriteria);
+        boolean topSuccess = top.size() == Math.min(k, fullData.size());
+        for (int i = 0; topSuccess && i < top.size(); i++) {
+            topSuccess = comparator.compare(top.get(i), fullData.get(i)) == 0;
+        }
+        
+        List<PerformanceResult> results = new ArrayList<>();
+        results.add(new PerformanceResult("Top-" + k, dataType, dataSize, topKTime, 0, topSuccess, sortCriteria));
+        results.add(new PerformanceResult(algorithmName, dataType, dataSize, fullTime, 0, fullSuccess, sortCriteria));
+        testHistory.addAll(results);
+        
+        System.out.println("🏅 Top-" + k + " | " + dataType + " | " + dataSize + " elementos | " +
+                          topKTime + " ms vs " + algorithmName + " " + fullTime + " ms | Critério: " + sortCriteria +
+                          " | " + (topSuccess && fullSuccess ? "OK" : "FALHA"));
+        
+        return results;
+    }
+    
     // TESTE DE ESCALABILIDADE
     public List<PerformanceResult> performScalabilityTest(String algorithmName, int maxSize) {
+        return performScalabilityTest(algorithmName, maxSize, "Aleatório", "id");
+    }
+    
+    public List<PerformanceResult> performScalabilityTest(String algorithmName, int maxSize,
+                                                          String dataType, String sortCriteria) {
         System.out.println("\n📈 INICIANDO TESTE DE ESCALABILIDADE: " + algorithmName);
-        System.out.println("📊 Tamanho máximo: " + maxSize + " elementos");
+        System.out.println("📊 Tamanho máximo: " + maxSize + " elementos | Tipo de Dados: " + dataType +
+                         " | Critério: " + sortCriteria);
         
         List<PerformanceResult> results = new ArrayList<>();
         int[] sizes = {100, 500, 1000, 5000, 10000, 50000, Math.min(maxSize, 100000)};
@@ -150,9 +366,10 @@ public class MainController {
         for (int size : sizes) {
             if (size <= maxSize) {
                 try {
-                    PerformanceResult result = runSortingTest(algorithmName, "Aleatório", size, "id");
+                    PerformanceResult result = runSortingTest(algorithmName, dataType, size, sortCriteria);
                     results.add(result);
                 } catch (Exception e) {
+                    failedTests++;
                     System.err.println("❌ Erro no tamanho " + size + ": " + e.getMessage());
                 }
             }
@@ -163,7 +380,7 @@ public class MainController {
     }
     
     // PREPARAR DADOS CONFORME REQUISITO 3
-    private List<SatelliteImage> prepareTestData(String dataType, int size) {
+    public List<SatelliteImage> prepareTestData(String dataType, int size) {
         List<SatelliteImage> testData = new ArrayList<>();
         
         switch (dataType) {
@@ -213,26 +430,9 @@ public class MainController {
     
     // VERIFICAR SE A LISTA ESTÁ ORDENADA CORRETAMENTE
     private boolean isSorted(List<SatelliteImage> images, String sortCriteria) {
+        Comparator<SatelliteImage> comparator = SortKeys.comparator(sortCriteria);
         for (int i = 0; i < images.size() - 1; i++) {
-            int comparison;
-            switch (sortCriteria) {
-                case "timestamp":
-                    comparison = Long.compare(images.get(i).getTimestamp(), images.get(i + 1).getTimestamp());
-                    break;
-                case "latitude":
-                    comparison = Double.compare(images.get(i).getLatitude(), images.get(i + 1).getLatitude());
-                    break;
-                case "longitude":
-                    comparison = Double.compare(images.get(i).getLongitude(), images.get(i + 1).getLongitude());
-                    break;
-                case "quality":
-                    comparison = images.get(i).getQuality().compareTo(images.get(i + 1).getQuality());
-                    break;
-                default: // "id" ou padrão
-                    comparison = images.get(i).compareTo(images.get(i + 1));
-            }
-            
-            if (comparison > 0) {
+            if (comparator.compare(images.get(i), images.get(i + 1)) > 0) {
                 return false;
             }
         }
@@ -252,18 +452,29 @@ public class MainController {
         return satelliteImages.size();
     }
     
+    // Histogramas sobre os códigos do dicionário: um incremento de array por imagem
     public Map<String, Integer> getQualityStats() {
-        Map<String, Integer> stats = new HashMap<>();
+        int[] counts = new int[CategoryDictionary.QUALITY.size()];
         for (SatelliteImage image : satelliteImages) {
-            stats.put(image.getQuality(), stats.getOrDefault(image.getQuality(), 0) + 1);
+            counts[image.getQualityCode()]++;
         }
-        return stats;
+        return toStats(counts, CategoryDictionary.QUALITY);
     }
     
     public Map<String, Integer> getRegionStats() {
-        Map<String, Integer> stats = new HashMap<>();
+        int[] counts = new int[CategoryDictionary.REGION.size()];
         for (SatelliteImage image : satelliteImages) {
-            stats.put(image.getRegion(), stats.getOrDefault(image.getRegion(), 0) + 1);
+            counts[image.getRegionCode()]++;
+        }
+        return toStats(counts, CategoryDictionary.REGION);
+    }
+    
+    private Map<String, Integer> toStats(int[] counts, CategoryDictionary dictionary) {
+        Map<String, Integer> stats = new HashMap<>();
+        for (int code = 0; code < counts.length; code++) {
+            if (counts[code] > 0) {
+                stats.put(dictionary.valueOf(code), counts[code]);
+            }
         }
         return stats;
     }
@@ -276,14 +487,34 @@ public class MainController {
         return algorithms.get(name);
     }
     
+    public int getFailedTestCount() {
+        return failedTests;
+    }
+    
+    // Grava o testHistory em CSV ou JSON, sem diálogos (usado também pelo HeadlessRunner)
+    public void writeResults(String filename, boolean json) throws IOException {
+        try (PrintWriter writer = new PrintWriter(new OutputStreamWriter(new FileOutputStream(filename), "UTF-8"))) {
+            if (json) {
+                writer.println("[");
+                for (int i = 0; i < testHistory.size(); i++) {
+                    writer.println("  " + testHistory.get(i).toJSON() + (i < testHistory.size() - 1 ? "," : ""));
+                }
+                writer.println("]");
+            } else {
+                writer.println(PerformanceResult.getCSVHeader());
+                for (PerformanceResult result : testHistory) {
+                    writer.println(result.toCSV());
+                }
+            }
+            if (writer.checkError()) {
+                throw new IOException("falha ao gravar " + filename);
+            }
+        }
+    }
+    
     public void exportResultsToFile(String filename) {
         try {
-            PrintWriter writer = new PrintWriter(new FileWriter(filename));
-            writer.println("Algorithm,DataType,DataSize,ExecutionTime(ms),MemoryUsed(KB),Success,Timestamp,SortCriteria");
-            for (PerformanceResult result : testHistory) {
-                writer.println(result.toCSV());
-            }
-            writer.close();
+            writeResults(filename, filename.toLowerCase().endsWith(".json"));
             
             JOptionPane.showMessageDialog(mainFrame, 
                 "📊 Resultados exportados para: " + filename + 
@@ -1,43 +1,83 @@
-import java.util.ArrayList;
 import java.util.List;
 
 public class MergeSort implements SortingAlgorithm {
     
+    private static final int INSERTION_THRESHOLD = 16;
+    
     @Override
-    public void sort(List<SatelliteImage> images) {
+    public void sort(List<SatelliteImage> images, String sortCriteria) {
         if (images == null || images.size() <= 1) return;
-        mergeSort(images, 0, images.size() - 1);
+        SortKeys keys = SortKeys.extract(images, sortCriteria);
+        
+        // Um único buffer auxiliar para todo o sort: a cada nível da recursão
+        // origem e destino trocam de papel, sem nenhuma alocação por merge
+        long[] auxKeys = keys.keys.clone();
+        int[] auxIndex = keys.index.clone();
+        OperationCounters.allocated(12L * keys.size());
+        mergeSort(auxKeys, auxIndex, keys.keys, keys.index, 0, keys.size());
+        keys.applyTo(images);
     }
     
-    private void mergeSort(List<SatelliteImage> images, int left, int right) {
-        if (left < right) {
-            int mid = left + (right - left) / 2;
-            mergeSort(images, left, mid);
-            mergeSort(images, mid + 1, right);
-            merge(images, left, mid, right);
+    // Ordena src[left, right) deixando o resultado em dst; na entrada os dois intervalos são iguais
+    static void mergeSort(long[] srcKeys, int[] srcIndex, long[] dstKeys, int[] dstIndex, int left, int right) {
+        if (right - left <= INSERTION_THRESHOLD) {
+            insertionSort(dstKeys, dstIndex, left, right);
+            return;
         }
+        
+        int mid = (left + right) >>> 1;
+        mergeSort(dstKeys, dstIndex, srcKeys, srcIndex, left, mid);
+        mergeSort(dstKeys, dstIndex, srcKeys, srcIndex, mid, right);
+        
+        // Metades já em ordem: basta copiar
+        if (!OperationCounters.less(srcKeys[mid], srcKeys[mid - 1])) {
+            OperationCounters.moves(right - left);
+            System.arraycopy(srcKeys, left, dstKeys, left, right - left);
+            System.arraycopy(srcIndex, left, dstIndex, left, right - left);
+            return;
+        }
+        
+        merge(srcKeys, srcIndex, dstKeys, dstIndex, left, mid, right);
     }
     
-    private void merge(List<SatelliteImage> images, int left, int mid, int right) {
-        List<SatelliteImage> leftList = new ArrayList<>(images.subList(left, mid + 1));
-        List<SatelliteImage> rightList = new ArrayList<>(images.subList(mid + 1, right + 1));
-        
-        int i = 0, j = 0, k = left;
+    private static void merge(long[] srcKeys, int[] srcIndex, long[] dstKeys, int[] dstIndex, int left, int mid, int right) {
+        OperationCounters.moves(right - left);
+        int i = left, j = mid, k = left;
         
-        while (i < leftList.size() && j < rightList.size()) {
-            if (leftList.get(i).compareTo(rightList.get(j)) <= 0) {
-                images.set(k++, leftList.get(i++));
+        while (i < mid && j < right) {
+            if (!OperationCounters.less(srcKeys[j], srcKeys[i])) {
+                dstKeys[k] = srcKeys[i];
+                dstIndex[k++] = srcIndex[i++];
             } else {
-                images.set(k++, rightList.get(j++));
+                dstKeys[k] = srcKeys[j];
+                dstIndex[k++] = srcIndex[j++];
             }
         }
         
-        while (i < leftList.size()) {
-            images.set(k++, leftList.get(i++));
+        while (i < mid) {
+            dstKeys[k] = srcKeys[i];
+            dstIndex[k++] = srcIndex[i++];
         }
         
-        while (j < rightList.size()) {
-            images.set(k++, rightList.get(j++));
+        while (j < right) {
+            dstKeys[k] = srcKeys[j];
+            dstIndex[k++] = srcIndex[j++];
+        }
+    }
+    
+    private static void insertionSort(long[] keys, int[] index, int left, int right) {
+        for (int i = left + 1; i < right; i++) {
+            long key = keys[i];
+            int idx = index[i];
+            int j = i - 1;
+            while (j >= left && OperationCounters.less(key, keys[j])) {
+                keys[j + 1] = keys[j];
+                index[j + 1] = index[j];
+                j--;
+            }
+            OperationCounters.moves(i - 1 - j); // deslocamentos
+            keys[j + 1] = key;
+            index[j + 1] = idx;
         }
     }
     
@@ -60,4 +100,9 @@ public class MergeSort implements SortingAlgorithm {
     public String getSpaceComplexity() {
         return "O(n)";
     }
+    
+    @Override
+    public boolean isStable() {
+        return true;
+    }
 }
\ No newline at end of file
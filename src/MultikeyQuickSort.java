@@ -0,0 +1,207 @@
+import java.util.List;
+
+public class MultikeyQuickSort implements SortingAlgorithm {
+    private static final int INSERTION_THRESHOLD = 16;
+    private static final int KEY_BYTES = 8;
+    
+    @Override
+    public void sort(List<SatelliteImage> images, String sortCriteria) {
+        if (images == null || images.size() <= 1) return;
+        
+        if (sortCriteria == null || "id".equals(sortCriteria)) {
+            sortById(images);
+        } else {
+            // Critérios numéricos: a chave de 64 bits é tratada como uma string de 8 bytes
+            SortKeys keys = SortKeys.extract(images, sortCriteria);
+            sortKeys(keys.keys, keys.index, 0, keys.size() - 1, 0);
+            keys.applyTo(images);
+        }
+    }
+    
+    // Os caracteres são lidos direto da imagem (idCharAt): ids empacotados não são decodificados
+    private void sortById(List<SatelliteImage> images) {
+        SatelliteImage[] items = images.toArray(new SatelliteImage[0]);
+        int n = items.length;
+        OperationCounters.allocated(4L * n); // itens (referências)
+        
+        // O prefixo comum a todos os ids (SAT_IMG_yyyyMMddHHmmss_...) é pulado de uma vez
+        SatelliteImage first = items[0];
+        int depth = first.idLength();
+        for (int i = 1; i < n && depth > 0; i++) {
+            int limit = Math.min(depth, items[i].idLength());
+            int p = 0;
+            while (p < limit && items[i].idCharAt(p) == first.idCharAt(p)) p++;
+            depth = p;
+        }
+        
+        sortStrings(items, 0, n - 1, depth);
+        
+        OperationCounters.moves(n);
+        for (int i = 0; i < n; i++) {
+            images.set(i, items[i]);
+        }
+    }
+    
+    private static int charAt(SatelliteImage image, int depth) {
+        return depth < image.idLength() ? image.idCharAt(depth) : -1;
+    }
+    
+    // Quicksort de 3 vias sobre o caractere em 'depth': só o grupo "igual" avança para depth + 1,
+    // então cada caractere do prefixo compartilhado é inspecionado praticamente uma vez
+    private static void sortStrings(SatelliteImage[] items, int low, int high, int depth) {
+        while (high - low > INSERTION_THRESHOLD) {
+            int pivot = medianOfThree(charAt(items[low], depth),
+                                      charAt(items[(low + high) >>> 1], depth),
+                                      charAt(items[high], depth));
+            
+            int lt = low, i = low, gt = high;
+            while (i <= gt) {
+                int c = charAt(items[i], depth);
+                if (OperationCounters.less(c, pivot)) {
+                    swap(items, lt++, i++);
+                } else if (OperationCounters.less(pivot, c)) {
+                    swap(items, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+            
+            if (pivot >= 0) {
+                sortStrings(items, lt, gt, depth + 1);
+            }
+            // Recursão no menor dos lados < e > (mesmo depth); o maior continua no laço,
+            // então a pilha fica em O(L log n) mesmo com entradas adversárias
+            if (lt - low < high - gt) {
+                sortStrings(items, low, lt - 1, depth);
+                low = gt + 1;
+            } else {
+                sortStrings(items, gt + 1, high, depth);
+                high = lt - 1;
+            }
+        }
+        insertionSort(items, low, high, depth);
+    }
+    
+    // Compara apenas a partir de 'depth': o prefixo já é conhecido como igual
+    private static void insertionSort(SatelliteImage[] items, int low, int high, int depth) {
+        for (int i = low + 1; i <= high; i++) {
+            SatelliteImage item = items[i];
+            int j = i - 1;
+            while (j >= low && compareFrom(items[j], item, depth) > 0) {
+                items[j + 1] = items[j];
+                j--;
+            }
+            OperationCounters.moves(i - 1 - j); // deslocamentos
+            items[j + 1] = item;
+        }
+    }
+    
+    private static int compareFrom(SatelliteImage a, SatelliteImage b, int depth) {
+        OperationCounters.compare();
+        int lengthA = a.idLength(), lengthB = b.idLength();
+        int limit = Math.min(lengthA, lengthB);
+        for (int p = depth; p < limit; p++) {
+            int diff = a.idCharAt(p) - b.idCharAt(p);
+            if (diff != 0) return diff;
+        }
+        return lengthA - lengthB;
+    }
+    
+    private static void swap(SatelliteImage[] items, int i, int j) {
+        OperationCounters.swap();
+        SatelliteImage item = items[i];
+        items[i] = items[j];
+        items[j] = item;
+    }
+    
+    private static int byteAt(long key, int depth) {
+        return (int) ((key ^ Long.MIN_VALUE) >>> (8 * (KEY_BYTES - 1 - depth))) & 0xFF;
+    }
+    
+    private static void sortKeys(long[] keys, int[] index, int low, int high, int depth) {
+        while (high - low > INSERTION_THRESHOLD && depth < KEY_BYTES) {
+            int pivot = medianOfThree(byteAt(keys[low], depth),
+                                      byteAt(keys[(low + high) >>> 1], depth),
+                                      byteAt(keys[high], depth));
+            
+            int lt = low, i = low, gt = high;
+            while (i <= gt) {
+                int b = byteAt(keys[i], depth);
+                if (OperationCounters.less(b, pivot)) {
+                    swap(keys, index, lt++, i++);
+                } else if (OperationCounters.less(pivot, b)) {
+                    swap(keys, index, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+            
+            sortKeys(keys, index, lt, gt, depth + 1);
+            if (lt - low < high - gt) {
+                sortKeys(keys, index, low, lt - 1, depth);
+                low = gt + 1;
+            } else {
+                sortKeys(keys, index, gt + 1, high, depth);
+                high = lt - 1;
+            }
+        }
+        if (depth < KEY_BYTES) {
+            insertionSort(keys, index, low, high);
+        }
+    }
+    
+    private static void insertionSort(long[] keys, int[] index, int low, int high) {
+        for (int i = low + 1; i <= high; i++) {
+            long key = keys[i];
+            int idx = index[i];
+            int j = i - 1;
+            while (j >= low && OperationCounters.less(key, keys[j])) {
+                keys[j + 1] = keys[j];
+                index[j + 1] = index[j];
+                j--;
+            }
+            OperationCounters.moves(i - 1 - j); // deslocamentos
+            keys[j + 1] = key;
+            index[j + 1] = idx;
+        }
+    }
+    
+    private static void swap(long[] keys, int[] index, int i, int j) {
+        OperationCounters.swap();
+        long key = keys[i];
+        keys[i] = keys[j];
+        keys[j] = key;
+        int idx = index[i];
+        index[i] = index[j];
+        index[j] = idx;
+    }
+    
+    private static int medianOfThree(int a, int b, int c) {
+        if (OperationCounters.less(a, b)) {
+            if (OperationCounters.less(b, c)) return b;
+            return OperationCounters.less(a, c) ? c : a;
+        }
+        if (OperationCounters.less(a, c)) return a;
+        return OperationCounters.less(b, c) ? c : b;
+    }
+    
+    @Override
+    public String getName() {
+        return "MultikeyQuickSort";
+    }
+    
+    @Override
+    public String getDescription() {
+        return "Quicksort multichave (Bentley-Sedgewick): particiona em 3 vias caractere a caractere, sem recomparar prefixos";
+    }
+    
+    @Override
+    public String getTimeComplexity() {
+        return "O(n log n + D), D = caracteres distintivos";
+    }
+    
+    @Override
+    public String getSpaceComplexity() {
+        return "O(log n + L) pilha";
+    }
+}
\ No newline at end of file
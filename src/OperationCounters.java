@@ -0,0 +1,94 @@
+import java.util.Comparator;
+import java.util.concurrent.atomic.LongAdder;
+
+// Contadores de operações dos kernels: comparações de chave, trocas, movimentos de
+// elementos e bytes alocados pelos buffers da ordenação. Ligados com
+// enable.operation.counters=true (ou -Denable.operation.counters=true); como ENABLED é
+// uma constante, desligados o JIT elimina as chamadas e os kernels não pagam nada.
+// Os totais são globais: medem uma ordenação por vez (reset antes, snapshot depois).
+public class OperationCounters {
+    static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("enable.operation.counters",
+        String.valueOf(AppConfig.getBoolean("enable.operation.counters", false))));
+    
+    private static final LongAdder COMPARES = new LongAdder();
+    private static final LongAdder SWAPS = new LongAdder();
+    private static final LongAdder MOVES = new LongAdder();
+    private static final LongAdder ALLOCATED_BYTES = new LongAdder();
+    
+    private OperationCounters() {}
+    
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+    
+    // a < b contando uma comparação (>, <= e >= são escritos com os argumentos trocados / negados)
+    static boolean less(long a, long b) {
+        if (ENABLED) COMPARES.increment();
+        return a < b;
+    }
+    
+    static void compare() {
+        if (ENABLED) COMPARES.increment();
+    }
+    
+    static void swap() {
+        if (ENABLED) SWAPS.increment();
+    }
+    
+    static void move() {
+        if (ENABLED) MOVES.increment();
+    }
+    
+    static void moves(long count) {
+        if (ENABLED) MOVES.add(count);
+    }
+    
+    static void allocated(long bytes) {
+        if (ENABLED) ALLOCATED_BYTES.add(bytes);
+    }
+    
+    // Comparador de objetos contado (desempate das chaves inexatas)
+    static <T> Comparator<T> counting(Comparator<T> comparator) {
+        if (!ENABLED) return comparator;
+        return (a, b) -> {
+            COMPARES.increment();
+            return comparator.compare(a, b);
+        };
+    }
+    
+    public static void reset() {
+        COMPARES.reset();
+        SWAPS.reset();
+        MOVES.reset();
+        ALLOCATED_BYTES.reset();
+    }
+    
+    public static Snapshot snapshot() {
+        return new Snapshot(COMPARES.sum(), SWAPS.sum(), MOVES.sum(), ALLOCATED_BYTES.sum());
+    }
+    
+    public static final class Snapshot {
+        private final long compares;
+        private final long swaps;
+        private final long moves;
+        private final long allocatedBytes;
+        
+        Snapshot(long compares, long swaps, long moves, long allocatedBytes) {
+            this.compares = compares;
+            this.swaps = swaps;
+            this.moves = moves;
+            this.allocatedBytes = allocatedBytes;
+        }
+        
+        public long getCompares() { return compares; }
+        public long getSwaps() { return swaps; }
+        public long getMoves() { return moves; }
+        public long getAllocatedBytes() { return allocatedBytes; }
+        
+        @Override
+        public String toString() {
+            return String.format("%,d comparações | %,d trocas | %,d movimentos | %,d KB alocados",
+                                 compares, swaps, moves, allocatedBytes / 1024);
+        }
+    }
+}
\ No newline at end of file
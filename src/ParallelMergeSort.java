@@ -0,0 +1,199 @@
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class ParallelMergeSort implements SortingAlgorithm {
+    // Abaixo disso o custo de criar tarefas supera o ganho: usa o MergeSort sequencial
+    private static final int SEQUENTIAL_THRESHOLD = 1 << 13;
+    private static final int MERGE_THRESHOLD = 1 << 13;
+    
+    private final int threads;
+    private ForkJoinPool pool;
+    
+    public ParallelMergeSort() {
+        this(AppConfig.getInt("max.threads", Runtime.getRuntime().availableProcessors()));
+    }
+    
+    public ParallelMergeSort(int threads) {
+        this.threads = Math.max(1, threads);
+    }
+    
+    private synchronized ForkJoinPool getPool() {
+        if (pool == null) {
+            pool = new ForkJoinPool(threads);
+        }
+        return pool;
+    }
+    
+    @Override
+    public void sort(List<SatelliteImage> images, String sortCriteria) {
+        if (images == null || images.size() <= 1) return;
+        SortKeys keys = SortKeys.extract(images, sortCriteria);
+        
+        // Mesmo esquema do MergeSort: um único buffer, origem e destino alternando por nível
+        long[] auxKeys = keys.keys.clone();
+        int[] auxIndex = keys.index.clone();
+        OperationCounters.allocated(12L * keys.size());
+        getPool().invoke(new SortTask(auxKeys, auxIndex, keys.keys, keys.index, 0, keys.size()));
+        keys.applyTo(images);
+    }
+    
+    // Ordena src[left, right) deixando o resultado em dst
+    private static final class SortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final long[] srcKeys, dstKeys;
+        private final int[] srcIndex, dstIndex;
+        private final int left, right;
+        
+        SortTask(long[] srcKeys, int[] srcIndex, long[] dstKeys, int[] dstIndex, int left, int right) {
+            this.srcKeys = srcKeys;
+            this.srcIndex = srcIndex;
+            this.dstKeys = dstKeys;
+            this.dstIndex = dstIndex;
+            this.left = left;
+            this.right = right;
+        }
+        
+        @Override
+        protected void compute() {
+            if (right - left <= SEQUENTIAL_THRESHOLD) {
+                MergeSort.mergeSort(srcKeys, srcIndex, dstKeys, dstIndex, left, right);
+                return;
+            }
+            
+            int mid = (left + right) >>> 1;
+            invokeAll(new SortTask(dstKeys, dstIndex, srcKeys, srcIndex, left, mid),
+                      new SortTask(dstKeys, dstIndex, srcKeys, srcIndex, mid, right));
+            
+            if (!OperationCounters.less(srcKeys[mid], srcKeys[mid - 1])) {
+                OperationCounters.moves(right - left);
+                System.arraycopy(srcKeys, left, dstKeys, left, right - left);
+                System.arraycopy(srcIndex, left, dstIndex, left, right - left);
+                return;
+            }
+            
+            new MergeTask(srcKeys, srcIndex, dstKeys, dstIndex, left, mid, mid, right, left).compute();
+        }
+    }
+    
+    // Merge paralelo de src[lo1, hi1) e src[lo2, hi2) em dst a partir de 'to': o elemento
+    // central do trecho maior é localizado no outro por busca binária e as duas metades
+    // são intercaladas em paralelo
+    private static final class MergeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final long[] srcKeys, dstKeys;
+        private final int[] srcIndex, dstIndex;
+        private final int lo1, hi1, lo2, hi2, to;
+        
+        MergeTask(long[] srcKeys, int[] srcIndex, long[] dstKeys, int[] dstIndex,
+                  int lo1, int hi1, int lo2, int hi2, int to) {
+            this.srcKeys = srcKeys;
+            this.srcIndex = srcIndex;
+            this.dstKeys = dstKeys;
+            this.dstIndex = dstIndex;
+            this.lo1 = lo1;
+            this.hi1 = hi1;
+            this.lo2 = lo2;
+            this.hi2 = hi2;
+            this.to = to;
+        }
+        
+        @Override
+        protected void compute() {
+            int len1 = hi1 - lo1;
+            int len2 = hi2 - lo2;
+            if (len1 + len2 <= MERGE_THRESHOLD) {
+                mergeSequential();
+                return;
+            }
+            
+            int split1, split2;
+            if (len1 >= len2) {
+                // Iguais do trecho 1 vêm antes: no trecho 2 buscamos o primeiro >= pivô
+                split1 = (lo1 + hi1) >>> 1;
+                split2 = lowerBound(srcKeys, lo2, hi2, srcKeys[split1]);
+            } else {
+                // Iguais do trecho 1 vêm antes: no trecho 1 buscamos o primeiro > pivô
+                split2 = (lo2 + hi2) >>> 1;
+                split1 = upperBound(srcKeys, lo1, hi1, srcKeys[split2]);
+            }
+            
+            int middle = to + (split1 - lo1) + (split2 - lo2);
+            invokeAll(new MergeTask(srcKeys, srcIndex, dstKeys, dstIndex, lo1, split1, lo2, split2, to),
+                      new MergeTask(srcKeys, srcIndex, dstKeys, dstIndex, split1, hi1, split2, hi2, middle));
+        }
+        
+        private void mergeSequential() {
+            OperationCounters.moves((hi1 - lo1) + (hi2 - lo2));
+            int i = lo1, j = lo2, k = to;
+            while (i < hi1 && j < hi2) {
+                if (!OperationCounters.less(srcKeys[j], srcKeys[i])) {
+                    dstKeys[k] = srcKeys[i];
+                    dstIndex[k++] = srcIndex[i++];
+                } else {
+                    dstKeys[k] = srcKeys[j];
+                    dstIndex[k++] = srcIndex[j++];
+                }
+            }
+            System.arraycopy(srcKeys, i, dstKeys, k, hi1 - i);
+            System.arraycopy(srcIndex, i, dstIndex, k, hi1 - i);
+            k += hi1 - i;
+            System.arraycopy(srcKeys, j, dstKeys, k, hi2 - j);
+            System.arraycopy(srcIndex, j, dstIndex, k, hi2 - j);
+        }
+    }
+    
+    private static int lowerBound(long[] keys, int lo, int hi, long key) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (OperationCounters.less(keys[mid], key)) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+    
+    private static int upperBound(long[] keys, int lo, int hi, long key) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (!OperationCounters.less(key, keys[mid])) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+    
+    @Override
+    public String getName() {
+        return "ParallelMergeSort";
+    }
+    
+    @Override
+    public String getDescription() {
+        return "Merge sort paralelo (Fork/Join) com merge também paralelo por divisão via busca binária";
+    }
+    
+    @Override
+    public String getTimeComplexity() {
+        return "O(n log n) trabalho, O(log³ n) profundidade";
+    }
+    
+    @Override
+    public String getSpaceComplexity() {
+        return "O(n)";
+    }
+    
+    @Override
+    public boolean usesWorkerThreads() {
+        return true;
+    }
+    
+    @Override
+    public boolean isStable() {
+        return true;
+    }
+}
\ No newline at end of file
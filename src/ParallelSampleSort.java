@@ -0,0 +1,201 @@
+import java.util.*;
+import java.util.concurrent.*;
+
+public class ParallelSampleSort implements SortingAlgorithm {
+    private static final int SEQUENTIAL_THRESHOLD = 1 << 15;
+    private static final int OVERSAMPLING = 32;
+    private static final int MAX_BUCKETS = 256; // id do bucket cabe em um byte (2 * 127 splitters + 1)
+    
+    private final int threads;
+    private ForkJoinPool pool;
+    
+    public ParallelSampleSort() {
+        this(AppConfig.getInt("max.threads", Runtime.getRuntime().availableProcessors()));
+    }
+    
+    public ParallelSampleSort(int threads) {
+        this.threads = Math.max(1, threads);
+    }
+    
+    private synchronized ForkJoinPool getPool() {
+        if (pool == null) {
+            pool = new ForkJoinPool(threads);
+        }
+        return pool;
+    }
+    
+    @Override
+    public void sort(List<SatelliteImage> images, String sortCriteria) {
+        if (images == null || images.size() <= 1) return;
+        SortKeys sortKeys = SortKeys.extract(images, sortCriteria);
+        
+        if (sortKeys.size() < SEQUENTIAL_THRESHOLD || threads == 1) {
+            QuickSort.sortRange(sortKeys.keys, sortKeys.index, 0, sortKeys.size() - 1);
+        } else {
+            sampleSort(sortKeys.keys, sortKeys.index);
+        }
+        sortKeys.applyTo(images);
+    }
+    
+    private void sampleSort(long[] keys, int[] index) {
+        int n = keys.length;
+        int blocks = threads;
+        long[] splitters = chooseSplitters(keys, Math.min(MAX_BUCKETS / 2, threads * 4));
+        // Bucket 2j: chaves entre splitters[j-1] e splitters[j]; bucket 2j+1: chaves iguais a
+        // splitters[j]. Chaves repetidas (quality, region) não se concentram em um bucket a ordenar
+        int buckets = 2 * splitters.length + 1;
+        
+        byte[] bucketOf = new byte[n];
+        int[][] counts = new int[blocks][buckets];
+        OperationCounters.allocated(n + 4L * blocks * buckets); // bucketOf + counts (int)
+        int blockSize = (n + blocks - 1) / blocks;
+        
+        // 1) Cada thread classifica seu bloco contíguo e conta por bucket
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int b = 0; b < blocks; b++) {
+            final int block = b;
+            tasks.add(() -> {
+                int from = block * blockSize;
+                int to = Math.min(n, from + blockSize);
+                int[] count = counts[block];
+                for (int i = from; i < to; i++) {
+                    int bucket = bucketFor(splitters, keys[i]);
+                    bucketOf[i] = (byte) bucket;
+                    count[bucket]++;
+                }
+                return null;
+            });
+        }
+        runAll(tasks);
+        
+        // Offsets globais: bucket a bucket, bloco a bloco (mantém a ordem relativa dentro do bloco)
+        int[][] offsets = new int[blocks][buckets];
+        int[] bucketStart = new int[buckets + 1];
+        OperationCounters.allocated(4L * blocks * buckets + 4L * (buckets + 1));
+        int position = 0;
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            bucketStart[bucket] = position;
+            for (int block = 0; block < blocks; block++) {
+                offsets[block][bucket] = position;
+                position += counts[block][bucket];
+            }
+        }
+        bucketStart[buckets] = n;
+        
+        // 2) Único movimento global de dados: cada thread espalha seu bloco nos buckets
+        long[] bucketKeys = new long[n];
+        int[] bucketIndex = new int[n];
+        OperationCounters.allocated(12L * n);
+        OperationCounters.moves(n);
+        tasks.clear();
+        for (int b = 0; b < blocks; b++) {
+            final int block = b;
+            tasks.add(() -> {
+                int from = block * blockSize;
+                int to = Math.min(n, from + blockSize);
+                int[] offset = offsets[block];
+                for (int i = from; i < to; i++) {
+                    int target = offset[bucketOf[i] & 0xFF]++;
+                    bucketKeys[target] = keys[i];
+                    bucketIndex[target] = index[i];
+                }
+                return null;
+            });
+        }
+        runAll(tasks);
+        
+        // 3) Buckets ordenados de forma independente e copiados de volta enquanto ainda estão no cache
+        tasks.clear();
+        for (int b = 0; b < buckets; b++) {
+            final int from = bucketStart[b];
+            final int to = bucketStart[b + 1];
+            final boolean equalKeys = (b & 1) == 1; // já ordenado: todas as chaves iguais
+            if (from == to) continue;
+            tasks.add(() -> {
+                if (!equalKeys) {
+                    QuickSort.sortRange(bucketKeys, bucketIndex, from, to - 1);
+                }
+                OperationCounters.moves(to - from);
+                System.arraycopy(bucketKeys, from, keys, from, to - from);
+                System.arraycopy(bucketIndex, from, index, from, to - from);
+                return null;
+            });
+        }
+        runAll(tasks);
+    }
+    
+    // Amostra buckets * OVERSAMPLING chaves, ordena e pega uma a cada OVERSAMPLING,
+    // sem repetir valores (poucos valores distintos = poucos splitters)
+    private static long[] chooseSplitters(long[] keys, int buckets) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long[] sample = new long[buckets * OVERSAMPLING];
+        for (int i = 0; i < sample.length; i++) {
+            sample[i] = keys[random.nextInt(keys.length)];
+        }
+        Arrays.sort(sample);
+        
+        long[] splitters = new long[buckets - 1];
+        int count = 0;
+        for (int i = 0; i < splitters.length; i++) {
+            long splitter = sample[(i + 1) * OVERSAMPLING];
+            if (count == 0 || splitters[count - 1] != splitter) {
+                splitters[count++] = splitter;
+            }
+        }
+        return Arrays.copyOf(splitters, count);
+    }
+    
+    // 2 * (número de splitters < key), + 1 se a chave for igual ao próximo splitter
+    private static int bucketFor(long[] splitters, long key) {
+        int lo = 0;
+        int hi = splitters.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (OperationCounters.less(splitters[mid], key)) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        boolean equal = lo < splitters.length && !OperationCounters.less(key, splitters[lo]);
+        return 2 * lo + (equal ? 1 : 0);
+    }
+    
+    private void runAll(List<Callable<Void>> tasks) {
+        try {
+            for (Future<Void> future : getPool().invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Ordenação interrompida", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Erro em tarefa paralela: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+    
+    @Override
+    public String getName() {
+        return "ParallelSampleSort";
+    }
+    
+    @Override
+    public String getDescription() {
+        return "Sample sort paralelo: splitters por sobreamostragem, um único espalhamento em buckets e ordenação independente de cada bucket";
+    }
+    
+    @Override
+    public String getTimeComplexity() {
+        return "O(n log n / p) esperado";
+    }
+    
+    @Override
+    public String getSpaceComplexity() {
+        return "O(n)";
+    }
+    
+    @Override
+    public boolean usesWorkerThreads() {
+        return true;
+    }
+}
\ No newline at end of file
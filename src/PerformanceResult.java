@@ -1,5 +1,6 @@
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Locale;
 
 public class PerformanceResult implements Comparable<PerformanceResult> {
     private String algorithmName;
@@ -10,6 +11,10 @@ public class PerformanceResult implements Comparable<PerformanceResult> {
     private boolean success;
     private String timestamp;
     private String sortCriteria;
+    private String selectedAlgorithm; // preenchido quando o algoritmo é o Auto
+    private String inputProfile;
+    private OperationCounters.Snapshot operationCounts; // null quando os contadores estão desligados
+    private ResourceMeter.Usage resourceUsage;          // alocação/CPU da thread e GC durante o sort
     
     public PerformanceResult(String algorithmName, String dataType, int dataSize, 
                            long executionTime, long memoryUsed, boolean success, String sortCriteria) {
@@ -32,6 +37,15 @@ public class PerformanceResult implements Comparable<PerformanceResult> {
     public boolean isSuccess() { return success; }
     public String getTimestamp() { return timestamp; }
     public String getSortCriteria() { return sortCriteria; }
+    public String getSelectedAlgorithm() { return selectedAlgorithm; }
+    public String getInputProfile() { return inputProfile; }
+    public OperationCounters.Snapshot getOperationCounts() { return operationCounts; }
+    public ResourceMeter.Usage getResourceUsage() { return resourceUsage; }
+    
+    public void setSelectedAlgorithm(String selectedAlgorithm) { this.selectedAlgorithm = selectedAlgorithm; }
+    public void setInputProfile(String inputProfile) { this.inputProfile = inputProfile; }
+    public void setOperationCounts(OperationCounters.Snapshot operationCounts) { this.operationCounts = operationCounts; }
+    public void setResourceUsage(ResourceMeter.Usage resourceUsage) { this.resourceUsage = resourceUsage; }
     
     @Override
     public int compareTo(PerformanceResult other) {
@@ -40,29 +54,107 @@ public class PerformanceResult implements Comparable<PerformanceResult> {
     
     @Override
     public String toString() {
-        return String.format("🔹 %-12s | %-8s | %,6d elem | ⏱️ %,5d ms | 💾 %,5d KB | %s | Critério: %s", 
+        String line = String.format("🔹 %-12s | %-8s | %,6d elem | ⏱️ %,5d ms | 💾 %,5d KB | %s | Critério: %s", 
                            algorithmName, dataType, dataSize, executionTime, memoryUsed,
                            success ? "✅" : "❌", sortCriteria);
+        if (operationCounts != null) line += String.format(" | 🔢 %,d comparações", operationCounts.getCompares());
+        if (resourceUsage != null && resourceUsage.isPartial()) line += " | memória parcial (pool)";
+        return selectedAlgorithm == null ? line : line + " | → " + selectedAlgorithm;
     }
     
     public String toDetailedString() {
+        String dispatch = selectedAlgorithm == null ? "" :
+            "Algoritmo Escolhido: " + selectedAlgorithm + "\n" +
+            "Perfil da Entrada: " + inputProfile + "\n";
+        String operations = operationCounts == null ? "" :
+            "Operações: " + operationCounts + "\n";
+        String resources = resourceUsage == null ? "" :
+            "Recursos: " + resourceUsage + "\n";
         return String.format(
             "Algoritmo: %s\n" +
             "Tipo de Dados: %s\n" +
             "Tamanho do Dataset: %,d elementos\n" +
             "Tempo de Execução: %,d ms\n" +
-            "Memória Utilizada: %,d KB\n" +
+            "Memória Alocada: %,d KB\n" +
             "Critério de Ordenação: %s\n" +
             "Ordenação Bem-sucedida: %s\n" +
+            "%s" +
+            "%s" +
+            "%s" +
             "Timestamp: %s\n" +
             "----------------------------------------",
             algorithmName, dataType, dataSize, executionTime, memoryUsed, sortCriteria,
-            success ? "Sim" : "Não", timestamp
+            success ? "Sim" : "Não", dispatch, operations, resources, timestamp
         );
     }
     
+    // Cabeçalho com uma coluna para cada campo de toCSV()
+    public static String getCSVHeader() {
+        return "Algorithm,DataType,DataSize,ExecutionTime(ms),MemoryUsed(KB),Success,Timestamp,SortCriteria,SelectedAlgorithm,InputProfile,Compares,Swaps,Moves,AllocatedBytes," +
+               "ThreadAllocatedBytes,CpuTime(ms),WallTime(ms),GcCount,GcTime(ms),CpuUtilization,PartialMeasurement";
+    }
+    
     public String toCSV() {
-        return String.format("%s,%s,%d,%d,%d,%s,%s,%s",
-            algorithmName, dataType, dataSize, executionTime, memoryUsed, success, timestamp, sortCriteria);
+        String operations = operationCounts == null ? ",,," :
+            operationCounts.getCompares() + "," + operationCounts.getSwaps() + "," +
+            operationCounts.getMoves() + "," + operationCounts.getAllocatedBytes();
+        String resources = resourceUsage == null ? ",,,,,," : String.format(Locale.ROOT, "%d,%.3f,%.3f,%d,%d,%.3f,%s",
+            resourceUsage.getAllocatedBytes(), resourceUsage.getCpuTimeNanos() / 1e6,
+            resourceUsage.getWallTimeNanos() / 1e6, resourceUsage.getGcCount(), resourceUsage.getGcTimeMs(),
+            resourceUsage.getCpuUtilization(), resourceUsage.isPartial());
+        return String.format("%s,%s,%d,%d,%d,%s,%s,%s,%s,%s,%s,%s",
+            csvField(algorithmName), csvField(dataType), dataSize, executionTime, memoryUsed, success,
+            csvField(timestamp), csvField(sortCriteria), csvField(selectedAlgorithm), csvField(inputProfile),
+            operations,
+            resources);
+    }
+    
+    // RFC 4180: campos com vírgula, aspas ou quebra de linha (ex.: critério composto
+    // "region,quality,-timestamp") vão entre aspas, com as aspas internas duplicadas
+    static String csvField(String value) {
+        if (value == null) return "";
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+    
+    // Um objeto JSON por resultado (mesmos campos do CSV; null quando a medida não existe)
+    public String toJSON() {
+        String operations = operationCounts == null ? "null" : String.format(
+            "{\"compares\": %d, \"swaps\": %d, \"moves\": %d, \"allocatedBytes\": %d}",
+            operationCounts.getCompares(), operationCounts.getSwaps(),
+            operationCounts.getMoves(), operationCounts.getAllocatedBytes());
+        String resources = resourceUsage == null ? "null" : String.format(Locale.ROOT,
+            "{\"threadAllocatedBytes\": %d, \"cpuTimeMs\": %.3f, \"wallTimeMs\": %.3f, \"gcCount\": %d, \"gcTimeMs\": %d, " +
+            "\"cpuUtilization\": %.3f, \"partial\": %s}",
+            resourceUsage.getAllocatedBytes(), resourceUsage.getCpuTimeNanos() / 1e6,
+            resourceUsage.getWallTimeNanos() / 1e6, resourceUsage.getGcCount(), resourceUsage.getGcTimeMs(),
+            resourceUsage.getCpuUtilization(), resourceUsage.isPartial());
+        return String.format("{\"algorithm\": %s, \"dataType\": %s, \"dataSize\": %d, \"executionTimeMs\": %d, " +
+            "\"memoryUsedKB\": %d, \"success\": %s, \"timestamp\": %s, \"sortCriteria\": %s, " +
+            "\"selectedAlgorithm\": %s, \"inputProfile\": %s, \"operations\": %s, \"resources\": %s}",
+            jsonString(algorithmName), jsonString(dataType), dataSize, executionTime, memoryUsed, success,
+            jsonString(timestamp), jsonString(sortCriteria), jsonString(selectedAlgorithm),
+            jsonString(inputProfile), operations, resources);
+    }
+    
+    private static String jsonString(String value) {
+        if (value == null) return "null";
+        StringBuilder sb = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"': sb.append("\\\""); break;
+                case '\\': sb.append("\\\\"); break;
+                case '\n': sb.append("\\n"); break;
+                case '\r': sb.append("\\r"); break;
+                case '\t': sb.append("\\t"); break;
+                default:
+                    if (c < 0x20) sb.append(String.format("\\u%04x", (int) c));
+                    else sb.append(c);
+            }
+        }
+        return sb.append('"').toString();
     }
 }
\ No newline at end of file
@@ -2,38 +2,129 @@ import java.util.List;
 
 public class QuickSort implements SortingAlgorithm {
     
+    private static final int INSERTION_THRESHOLD = 24;
+    private static final int NINTHER_THRESHOLD = 128;
+    
     @Override
-    public void sort(List<SatelliteImage> images) {
+    public void sort(List<SatelliteImage> images, String sortCriteria) {
         if (images == null || images.size() <= 1) return;
-        quickSort(images, 0, images.size() - 1);
+        SortKeys keys = SortKeys.extract(images, sortCriteria);
+        sortRange(keys.keys, keys.index, 0, keys.size() - 1);
+        keys.applyTo(images);
+    }
+    
+    static void sortRange(long[] keys, int[] index, int low, int high) {
+        if (high <= low) return;
+        // Limite de profundidade 2*log2(n): acima disso cai para heapsort (pior caso O(n log n))
+        int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(high - low + 1));
+        quickSort(keys, index, low, high, depthLimit);
+    }
+    
+    private static void quickSort(long[] keys, int[] index, int low, int high, int depthLimit) {
+        while (high - low > INSERTION_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                heapSort(keys, index, low, high);
+                return;
+            }
+            
+            long pivot = keys[selectPivot(keys, low, high)];
+            
+            // Partição de 3 vias (bandeira holandesa): < pivô | == pivô | > pivô
+            int lt = low, i = low, gt = high;
+            while (i <= gt) {
+                long key = keys[i];
+                if (OperationCounters.less(key, pivot)) {
+                    swap(keys, index, lt++, i++);
+                } else if (OperationCounters.less(pivot, key)) {
+                    swap(keys, index, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+            
+            // Recursão apenas no lado menor; o maior continua no laço (pilha O(log n))
+            if (lt - low < high - gt) {
+                quickSort(keys, index, low, lt - 1, depthLimit);
+                low = gt + 1;
+            } else {
+                quickSort(keys, index, gt + 1, high, depthLimit);
+                high = lt - 1;
+            }
+        }
+        insertionSort(keys, index, low, high);
     }
     
-    private void quickSort(List<SatelliteImage> images, int low, int high) {
-        if (low < high) {
-            int pi = partition(images, low, high);
-            quickSort(images, low, pi - 1);
-            quickSort(images, pi + 1, high);
+    // Mediana de três para intervalos pequenos, ninther (mediana de 3 medianas) para os grandes
+    private static int selectPivot(long[] keys, int low, int high) {
+        int mid = (low + high) >>> 1;
+        if (high - low < NINTHER_THRESHOLD) {
+            return medianOfThree(keys, low, mid, high);
         }
+        int step = (high - low) / 8;
+        int a = medianOfThree(keys, low, low + step, low + 2 * step);
+        int b = medianOfThree(keys, mid - step, mid, mid + step);
+        int c = medianOfThree(keys, high - 2 * step, high - step, high);
+        return medianOfThree(keys, a, b, c);
     }
     
-    private int partition(List<SatelliteImage> images, int low, int high) {
-        SatelliteImage pivot = images.get(high);
-        int i = low - 1;
-        
-        for (int j = low; j < high; j++) {
-            if (images.get(j).compareTo(pivot) <= 0) {
-                i++;
-                swap(images, i, j);
+    private static int medianOfThree(long[] keys, int a, int b, int c) {
+        if (OperationCounters.less(keys[a], keys[b])) {
+            if (OperationCounters.less(keys[b], keys[c])) return b;
+            return OperationCounters.less(keys[a], keys[c]) ? c : a;
+        }
+        if (OperationCounters.less(keys[a], keys[c])) return a;
+        return OperationCounters.less(keys[b], keys[c]) ? c : b;
+    }
+    
+    private static void insertionSort(long[] keys, int[] index, int low, int high) {
+        for (int i = low + 1; i <= high; i++) {
+            long key = keys[i];
+            int idx = index[i];
+            int j = i - 1;
+            while (j >= low && OperationCounters.less(key, keys[j])) {
+                keys[j + 1] = keys[j];
+                index[j + 1] = index[j];
+                j--;
             }
+            OperationCounters.moves(i - 1 - j); // deslocamentos
+            keys[j + 1] = key;
+            index[j + 1] = idx;
+        }
+    }
+    
+    // Também usado como limite de profundidade pelo DualPivotQuickSort
+    static void heapSort(long[] keys, int[] index, int low, int high) {
+        int n = high - low + 1;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(keys, index, low, i, n);
+        }
+        for (int i = n - 1; i > 0; i--) {
+            swap(keys, index, low, low + i);
+            siftDown(keys, index, low, 0, i);
+        }
+    }
+    
+    private static void siftDown(long[] keys, int[] index, int offset, int i, int n) {
+        while (true) {
+            int largest = i;
+            int left = 2 * i + 1;
+            int right = left + 1;
+            if (left < n && OperationCounters.less(keys[offset + largest], keys[offset + left])) largest = left;
+            if (right < n && OperationCounters.less(keys[offset + largest], keys[offset + right])) largest = right;
+            if (largest == i) return;
+            swap(keys, index, offset + i, offset + largest);
+            i = largest;
         }
-        swap(images, i + 1, high);
-        return i + 1;
     }
     
-    private void swap(List<SatelliteImage> images, int i, int j) {
-        SatelliteImage temp = images.get(i);
-        images.set(i, images.get(j));
-        images.set(j, temp);
+    private static void swap(long[] keys, int[] index, int i, int j) {
+        OperationCounters.swap();
+        long key = keys[i];
+        keys[i] = keys[j];
+        keys[j] = key;
+        int idx = index[i];
+        index[i] = index[j];
+        index[j] = idx;
     }
     
     @Override
@@ -43,12 +134,12 @@ public class QuickSort implements SortingAlgorithm {
     
     @Override
     public String getDescription() {
-        return "Algoritmo de ordenação por divisão e conquista que seleciona um pivô e particiona o array";
+        return "Quicksort introspectivo: pivô por ninther, partição de 3 vias, insertion sort em trechos pequenos e heapsort como limite de profundidade";
     }
     
     @Override
     public String getTimeComplexity() {
-        return "O(n log n) médio, O(n²) pior caso";
+        return "O(n log n) médio e pior caso";
     }
     
     @Override
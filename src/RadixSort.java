@@ -0,0 +1,99 @@
+import java.util.List;
+
+public class RadixSort implements SortingAlgorithm {
+    // Dígitos de 11 bits: 6 passadas cobrem os 64 bits e o histograma (2048 ints) cabe no L1
+    private static final int DIGIT_BITS = 11;
+    private static final int RADIX = 1 << DIGIT_BITS;
+    private static final int MASK = RADIX - 1;
+    private static final int PASSES = (64 + DIGIT_BITS - 1) / DIGIT_BITS;
+    
+    @Override
+    public void sort(List<SatelliteImage> images, String sortCriteria) {
+        if (images == null || images.size() <= 1) return;
+        SortKeys keys = SortKeys.extract(images, sortCriteria);
+        radixSort(keys.keys, keys.index);
+        keys.applyTo(images);
+    }
+    
+    static void radixSort(long[] keys, int[] index) {
+        int n = keys.length;
+        
+        // Todos os histogramas em uma única leitura dos dados; o bit de sinal é
+        // invertido para que a ordem sem sinal dos dígitos siga a ordem com sinal
+        int[][] counts = new int[PASSES][RADIX];
+        OperationCounters.allocated(4L * PASSES * RADIX);
+        for (int i = 0; i < n; i++) {
+            long key = keys[i] ^ Long.MIN_VALUE;
+            for (int pass = 0; pass < PASSES; pass++) {
+                counts[pass][(int) (key >>> (pass * DIGIT_BITS)) & MASK]++;
+            }
+        }
+        
+        long[] srcKeys = keys, dstKeys = null;
+        int[] srcIndex = index, dstIndex = null;
+        
+        for (int pass = 0; pass < PASSES; pass++) {
+            int[] count = counts[pass];
+            int shift = pass * DIGIT_BITS;
+            
+            // Dígito igual em todas as chaves (ex.: bits altos de timestamps): passada desnecessária
+            int sample = (int) ((srcKeys[0] ^ Long.MIN_VALUE) >>> shift) & MASK;
+            if (count[sample] == n) continue;
+            
+            if (dstKeys == null) {
+                dstKeys = new long[n];
+                dstIndex = new int[n];
+                OperationCounters.allocated(12L * n);
+            }
+            OperationCounters.moves(n);
+            
+            int sum = 0;
+            for (int d = 0; d < RADIX; d++) {
+                int c = count[d];
+                count[d] = sum;
+                sum += c;
+            }
+            
+            // Espalhamento estável: a chave e sua posição original viajam juntas
+            for (int i = 0; i < n; i++) {
+                long key = srcKeys[i];
+                int target = count[(int) ((key ^ Long.MIN_VALUE) >>> shift) & MASK]++;
+                dstKeys[target] = key;
+                dstIndex[target] = srcIndex[i];
+            }
+            
+            long[] tempKeys = srcKeys; srcKeys = dstKeys; dstKeys = tempKeys;
+            int[] tempIndex = srcIndex; srcIndex = dstIndex; dstIndex = tempIndex;
+        }
+        
+        if (srcKeys != keys) {
+            System.arraycopy(srcKeys, 0, keys, 0, n);
+            System.arraycopy(srcIndex, 0, index, 0, n);
+        }
+    }
+    
+    @Override
+    public String getName() {
+        return "RadixSort";
+    }
+    
+    @Override
+    public String getDescription() {
+        return "Radix sort LSD estável em dígitos de 11 bits sobre a chave de 64 bits, pulando dígitos constantes";
+    }
+    
+    @Override
+    public String getTimeComplexity() {
+        return "O(n · k) com k <= 6 passadas";
+    }
+    
+    @Override
+    public String getSpaceComplexity() {
+        return "O(n + 2^11)";
+    }
+    
+    @Override
+    public boolean isStable() {
+        return true;
+    }
+}
\ No newline at end of file
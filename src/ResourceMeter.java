@@ -0,0 +1,140 @@
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+// Medição por thread com as MXBeans da JVM: bytes alocados e tempo de CPU da thread que
+// executa a ordenação (com.sun.management.ThreadMXBean) e coletas do GC no intervalo.
+// Substitui o totalMemory - freeMemory, que mede o heap inteiro e depende de quando o GC
+// roda. start() e stop() precisam ser chamados na mesma thread; o trabalho feito em
+// outras threads (pools dos algoritmos paralelos) só aparece no tempo de parede e no GC,
+// e o resultado é marcado como parcial (Usage.asPartial).
+public class ResourceMeter {
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private static final com.sun.management.ThreadMXBean ALLOCATION =
+        THREADS instanceof com.sun.management.ThreadMXBean ? (com.sun.management.ThreadMXBean) THREADS : null;
+    
+    static {
+        try {
+            if (THREADS.isCurrentThreadCpuTimeSupported() && !THREADS.isThreadCpuTimeEnabled()) {
+                THREADS.setThreadCpuTimeEnabled(true);
+            }
+            if (ALLOCATION != null && ALLOCATION.isThreadAllocatedMemorySupported()
+                    && !ALLOCATION.isThreadAllocatedMemoryEnabled()) {
+                ALLOCATION.setThreadAllocatedMemoryEnabled(true);
+            }
+        } catch (UnsupportedOperationException | SecurityException e) {
+            System.err.println("Medição por thread indisponível: " + e.getMessage());
+        }
+    }
+    
+    private final long threadId;
+    private final long startWall;
+    private final long startCpu;
+    private final long startAllocated;
+    private final long startGcCount;
+    private final long startGcTime;
+    
+    private ResourceMeter() {
+        threadId = Thread.currentThread().getId();
+        startGcCount = gcCount();
+        startGcTime = gcTime();
+        startAllocated = allocatedBytes(threadId);
+        startCpu = cpuTime();
+        startWall = System.nanoTime();
+    }
+    
+    public static ResourceMeter start() {
+        return new ResourceMeter();
+    }
+    
+    public Usage stop() {
+        long wall = System.nanoTime() - startWall;
+        long cpu = cpuTime();
+        long allocated = allocatedBytes(threadId);
+        return new Usage(wall,
+                         cpu < 0 || startCpu < 0 ? -1 : cpu - startCpu,
+                         allocated < 0 || startAllocated < 0 ? -1 : allocated - startAllocated,
+                         gcCount() - startGcCount,
+                         gcTime() - startGcTime);
+    }
+    
+    public static boolean isAllocationSupported() {
+        return ALLOCATION != null && ALLOCATION.isThreadAllocatedMemoryEnabled();
+    }
+    
+    private static long cpuTime() {
+        return THREADS.isThreadCpuTimeEnabled() ? THREADS.getCurrentThreadCpuTime() : -1;
+    }
+    
+    private static long allocatedBytes(long threadId) {
+        return isAllocationSupported() ? ALLOCATION.getThreadAllocatedBytes(threadId) : -1;
+    }
+    
+    // Somas de todos os coletores (young + old); -1 de um coletor = não suportado
+    private static long gcCount() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, gc.getCollectionCount());
+        }
+        return total;
+    }
+    
+    private static long gcTime() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, gc.getCollectionTime());
+        }
+        return total;
+    }
+    
+    public static final class Usage {
+        private final long wallTimeNanos;
+        private final long cpuTimeNanos;   // -1 se a JVM não mede CPU por thread
+        private final long allocatedBytes; // -1 se a JVM não mede alocação por thread
+        private final long gcCount;
+        private final long gcTimeMs;
+        private final boolean partial;     // alocação/CPU das threads de pool não estão incluídas
+        
+        Usage(long wallTimeNanos, long cpuTimeNanos, long allocatedBytes, long gcCount, long gcTimeMs) {
+            this(wallTimeNanos, cpuTimeNanos, allocatedBytes, gcCount, gcTimeMs, false);
+        }
+        
+        private Usage(long wallTimeNanos, long cpuTimeNanos, long allocatedBytes, long gcCount, long gcTimeMs,
+                      boolean partial) {
+            this.wallTimeNanos = wallTimeNanos;
+            this.cpuTimeNanos = cpuTimeNanos;
+            this.allocatedBytes = allocatedBytes;
+            this.gcCount = gcCount;
+            this.gcTimeMs = gcTimeMs;
+            this.partial = partial;
+        }
+        
+        // Mesma medição, marcada como parcial (algoritmo que usa threads de pool)
+        public Usage asPartial() {
+            return new Usage(wallTimeNanos, cpuTimeNanos, allocatedBytes, gcCount, gcTimeMs, true);
+        }
+        
+        public long getWallTimeNanos() { return wallTimeNanos; }
+        public long getCpuTimeNanos() { return cpuTimeNanos; }
+        public long getAllocatedBytes() { return allocatedBytes; }
+        public long getGcCount() { return gcCount; }
+        public long getGcTimeMs() { return gcTimeMs; }
+        public boolean isPartial() { return partial; }
+        
+        // CPU / parede: ~1 em código sequencial, menor quando a thread espera (pool, GC, I/O)
+        public double getCpuUtilization() {
+            return cpuTimeNanos < 0 ? -1 : (double) cpuTimeNanos / Math.max(1, wallTimeNanos);
+        }
+        
+        @Override
+        public String toString() {
+            return String.format("%s alocados | CPU %s / parede %,.1f ms (%s) | GC: %d coletas, %,d ms%s",
+                                 allocatedBytes < 0 ? "n/d" : String.format("%,d KB", allocatedBytes / 1024),
+                                 cpuTimeNanos < 0 ? "n/d" : String.format("%,.1f ms", cpuTimeNanos / 1e6),
+                                 wallTimeNanos / 1e6,
+                                 cpuTimeNanos < 0 ? "n/d" : String.format("%.0f%% CPU", getCpuUtilization() * 100),
+                                 gcCount, gcTimeMs,
+                                 partial ? " | parcial: só a thread chamadora" : "");
+        }
+    }
+}
\ No newline at end of file
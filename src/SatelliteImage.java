@@ -2,22 +2,32 @@ import java.text.SimpleDateFormat;
 import java.util.Date;
 
 public class SatelliteImage implements Comparable<SatelliteImage> {
-    private String imageId;
+    // Ids gerados (prefixo fixo + cauda de dígitos e '_') ficam empacotados em dois longs:
+    // um nibble por caractere ('0'..'9' -> 1..10, '_' -> 11, 0 = fim), então a ordem sem
+    // sinal de (idHigh, idLow) é a mesma de String.compareTo. Os prefixos estão em ordem
+    // e nenhum é prefixo de outro, logo entre formatos diferentes decide o prefixo.
+    private static final String[] ID_PREFIXES = {"RND_", "SAT_IMG_"};
+    private static final int PACKED_ID_CHARS = 32;
+    
+    private String imageId;   // null quando o id está empacotado
+    private byte idShape;     // 0 = String; senão índice em ID_PREFIXES + 1
+    private long idHigh;
+    private long idLow;
     private double latitude;
     private double longitude;
     private long timestamp;
-    private String quality;
-    private String region;
+    private short qualityCode; // códigos em CategoryDictionary.QUALITY / REGION
+    private short regionCode;
     private int sizeKB;
     
     public SatelliteImage(String imageId, double latitude, double longitude, 
                          long timestamp, String quality, String region, int sizeKB) {
-        this.imageId = imageId;
+        encodeId(imageId);
         this.latitude = latitude;
         this.longitude = longitude;
         this.timestamp = timestamp;
-        this.quality = quality;
-        this.region = region;
+        this.qualityCode = (short) CategoryDictionary.QUALITY.encode(quality);
+        this.regionCode = (short) CategoryDictionary.REGION.encode(region);
         this.sizeKB = sizeKB;
     }
     
@@ -26,12 +36,76 @@ public class SatelliteImage implements Comparable<SatelliteImage> {
         this(imageId, latitude, longitude, timestamp, quality, "Amazônia", 2048);
     }
     
-    public String getImageId() { return imageId; }
+    private void encodeId(String id) {
+        for (int shape = 0; shape < ID_PREFIXES.length; shape++) {
+            String prefix = ID_PREFIXES[shape];
+            int tail = id.length() - prefix.length();
+            if (tail < 0 || tail > PACKED_ID_CHARS || !id.startsWith(prefix)) continue;
+            
+            long high = 0, low = 0;
+            int p = 0;
+            for (; p < PACKED_ID_CHARS; p++) {
+                int nibble = 0;
+                if (p < tail) {
+                    char c = id.charAt(prefix.length() + p);
+                    if (c >= '0' && c <= '9') nibble = c - '0' + 1;
+                    else if (c == '_') nibble = 11;
+                    else break;
+                }
+                if (p < 16) high = (high << 4) | nibble;
+                else low = (low << 4) | nibble;
+            }
+            if (p == PACKED_ID_CHARS) {
+                idShape = (byte) (shape + 1);
+                idHigh = high;
+                idLow = low;
+                return;
+            }
+        }
+        imageId = id;
+    }
+    
+    public String getImageId() {
+        if (idShape == 0) return imageId;
+        int length = idLength();
+        StringBuilder id = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            id.append(idCharAt(i));
+        }
+        return id.toString();
+    }
+    
+    // Acesso ao id caractere a caractere sem decodificar os ids empacotados (sem alocar):
+    // usado nos desempates e no MultikeyQuickSort
+    int idLength() {
+        if (idShape == 0) return imageId.length();
+        // Nibbles não nulos até o fim da cauda, zeros depois
+        int tail = idLow != 0 ? 32 - Long.numberOfTrailingZeros(idLow) / 4
+                              : 16 - Long.numberOfTrailingZeros(idHigh) / 4;
+        return ID_PREFIXES[idShape - 1].length() + tail;
+    }
+    
+    char idCharAt(int i) {
+        if (idShape == 0) return imageId.charAt(i);
+        String prefix = ID_PREFIXES[idShape - 1];
+        if (i < prefix.length()) return prefix.charAt(i);
+        int p = i - prefix.length();
+        long word = p < 16 ? idHigh : idLow;
+        int nibble = (int) (word >>> (4 * (15 - (p & 15)))) & 0xF;
+        return nibble == 11 ? '_' : (char) ('0' + nibble - 1);
+    }
+    
+    int getIdShape() { return idShape; }
+    long getIdHigh() { return idHigh; }
+    long getIdLow() { return idLow; }
+    
     public double getLatitude() { return latitude; }
     public double getLongitude() { return longitude; }
     public long getTimestamp() { return timestamp; }
-    public String getQuality() { return quality; }
-    public String getRegion() { return region; }
+    public String getQuality() { return CategoryDictionary.QUALITY.valueOf(getQualityCode()); }
+    public String getRegion() { return CategoryDictionary.REGION.valueOf(getRegionCode()); }
+    public int getQualityCode() { return qualityCode & 0xFFFF; }
+    public int getRegionCode() { return regionCode & 0xFFFF; }
     public int getSizeKB() { return sizeKB; }
     
     public String getFormattedDate() {
@@ -41,7 +115,21 @@ public class SatelliteImage implements Comparable<SatelliteImage> {
     
     @Override
     public int compareTo(SatelliteImage other) {
-        return this.imageId.compareTo(other.imageId);
+        if (idShape != 0 && other.idShape != 0) {
+            if (idShape != other.idShape) return Integer.compare(idShape, other.idShape);
+            int cmp = Long.compareUnsigned(idHigh, other.idHigh);
+            return cmp != 0 ? cmp : Long.compareUnsigned(idLow, other.idLow);
+        }
+        if (idShape == 0 && other.idShape == 0) return imageId.compareTo(other.imageId);
+        
+        // Formatos mistos: mesma ordem de String.compareTo, sem decodificar o id empacotado
+        int length = idLength(), otherLength = other.idLength();
+        int limit = Math.min(length, otherLength);
+        for (int i = 0; i < limit; i++) {
+            char a = idCharAt(i), b = other.idCharAt(i);
+            if (a != b) return a - b;
+        }
+        return length - otherLength;
     }
     
     public int compareByTimestamp(SatelliteImage other) {
@@ -57,13 +145,19 @@ public class SatelliteImage implements Comparable<SatelliteImage> {
     }
     
     public int compareByQuality(SatelliteImage other) {
-        return this.quality.compareTo(other.quality);
+        return Integer.compare(CategoryDictionary.QUALITY.rank(getQualityCode()),
+                               CategoryDictionary.QUALITY.rank(other.getQualityCode()));
+    }
+    
+    public int compareByRegion(SatelliteImage other) {
+        return Integer.compare(CategoryDictionary.REGION.rank(getRegionCode()),
+                               CategoryDictionary.REGION.rank(other.getRegionCode()));
     }
     
     @Override
     public String toString() {
         return String.format("Image[%s] Lat: %.4f, Long: %.4f, Time: %s, Quality: %s, Region: %s, Size: %dKB",
-                           imageId, latitude, longitude, getFormattedDate(), quality, region, sizeKB);
+                           getImageId(), latitude, longitude, getFormattedDate(), getQuality(), getRegion(), sizeKB);
     }
     
     @Override
@@ -71,11 +165,16 @@ public class SatelliteImage implements Comparable<SatelliteImage> {
         if (this == obj) return true;
         if (obj == null || getClass() != obj.getClass()) return false;
         SatelliteImage that = (SatelliteImage) obj;
-        return imageId.equals(that.imageId);
+        // A codificação é canônica: um id empacotável nunca fica como String
+        if (idShape != 0) {
+            return idShape == that.idShape && idHigh == that.idHigh && idLow == that.idLow;
+        }
+        return that.idShape == 0 && imageId.equals(that.imageId);
     }
     
     @Override
     public int hashCode() {
-        return imageId.hashCode();
+        if (idShape == 0) return imageId.hashCode();
+        return 31 * (31 * idShape + Long.hashCode(idHigh)) + Long.hashCode(idLow);
     }
 }
\ No newline at end of file
@@ -0,0 +1,189 @@
+import java.util.*;
+
+// Autoverificação da matriz completa, sem interface gráfica: todo algoritmo registrado ×
+// critérios × tipos de dados × tamanhos, conferindo ordem, permutação e (nos estáveis)
+// estabilidade, além de TopK, SortedIndex e das colunas do CSV.
+//   java -cp bin SelfCheck        saída: 0 = tudo OK | 1 = alguma verificação falhou
+public class SelfCheck {
+    private static final String[] CRITERIA = {
+        "id", "timestamp", "latitude", "longitude", "quality", "region",
+        "-id", "-timestamp", "region,quality,-timestamp", "quality,id", "-quality,longitude,-id"
+    };
+    private static final String[] DATA_TYPES = {"Aleatório", "Ordenado", "Reverso", "Quase Ordenado", "Externo"};
+    // Dos casos triviais até acima dos limiares paralelos (ParallelSampleSort e o despacho do AutoSort)
+    private static final int[] SIZES = {0, 1, 2, 3, 17, 100, 1000, 50000, 150000};
+    private static final int MAX_REPORTED = 20;
+    
+    private final List<String> failures = new ArrayList<>();
+    private int checks;
+    
+    public static void main(String[] args) {
+        System.exit(new SelfCheck().run());
+    }
+    
+    private int run() {
+        MainController controller = new MainController();
+        long start = System.nanoTime();
+        
+        for (String dataType : DATA_TYPES) {
+            for (int size : SIZES) {
+                // "Externo" fica limitado ao catálogo carregado: vale o tamanho devolvido
+                List<SatelliteImage> data = controller.prepareTestData(dataType, size);
+                Map<SatelliteImage, Integer> positions = new IdentityHashMap<>();
+                for (int i = 0; i < data.size(); i++) {
+                    positions.put(data.get(i), i);
+                }
+                
+                for (String criteria : CRITERIA) {
+                    Comparator<SatelliteImage> comparator = SortKeys.comparator(criteria);
+                    List<SatelliteImage> expected = new ArrayList<>(data);
+                    expected.sort(comparator); // List.sort é estável: a única saída válida de um algoritmo estável
+                    String context = dataType + " | " + data.size() + " | " + criteria;
+                    
+                    for (String name : controller.getAlgorithmNames()) {
+                        checkAlgorithm(controller.getAlgorithm(name), name + " | " + context,
+                                       data, positions, comparator, expected, criteria);
+                    }
+                    checkTopK(data, comparator, expected, criteria, context);
+                    checkSortedIndex(data, comparator, expected, criteria, context);
+                }
+            }
+            System.out.println("🔎 " + dataType + " verificado (" + checks + " verificações até agora)");
+        }
+        checkCsvColumns(controller);
+        
+        long seconds = (System.nanoTime() - start) / 1000000000L;
+        if (failures.isEmpty()) {
+            System.out.println("✅ SelfCheck OK: " + checks + " verificações em " + seconds + " s");
+            return 0;
+        }
+        System.err.println("❌ SelfCheck: " + failures.size() + " falha(s) em " + checks + " verificações");
+        for (String failure : failures.subList(0, Math.min(MAX_REPORTED, failures.size()))) {
+            System.err.println("   • " + failure);
+        }
+        return 1;
+    }
+    
+    private void checkAlgorithm(SortingAlgorithm algorithm, String context, List<SatelliteImage> data,
+                                Map<SatelliteImage, Integer> positions, Comparator<SatelliteImage> comparator,
+                                List<SatelliteImage> expected, String criteria) {
+        List<SatelliteImage> sorted = new ArrayList<>(data);
+        try {
+            algorithm.sort(sorted, criteria);
+        } catch (RuntimeException e) {
+            fail(context, "exceção " + e);
+            return;
+        }
+        
+        // Permutação: mesmo tamanho e cada objeto da entrada exatamente uma vez
+        boolean[] seen = new boolean[data.size()];
+        boolean permutation = sorted.size() == data.size();
+        for (int i = 0; permutation && i < sorted.size(); i++) {
+            Integer position = positions.get(sorted.get(i));
+            permutation = position != null && !seen[position];
+            if (permutation) seen[position] = true;
+        }
+        check(permutation, context, "não é uma permutação da entrada");
+        if (!permutation) return;
+        
+        int unordered = firstUnordered(sorted, comparator);
+        check(unordered < 0, context, "fora de ordem na posição " + unordered);
+        
+        if (unordered < 0 && algorithm.isStable()) {
+            int moved = -1;
+            for (int i = 0; moved < 0 && i < sorted.size(); i++) {
+                if (sorted.get(i) != expected.get(i)) moved = i;
+            }
+            check(moved < 0, context, "instável: empate fora da ordem de entrada na posição " + moved);
+        }
+    }
+    
+    private void checkTopK(List<SatelliteImage> data, Comparator<SatelliteImage> comparator,
+                           List<SatelliteImage> expected, String criteria, String context) {
+        int n = data.size();
+        for (int k : new int[]{1, 10, n / 2, n, n + 5}) {
+            List<SatelliteImage> top = TopK.select(data, criteria, k);
+            boolean ok = top.size() == Math.max(0, Math.min(k, n));
+            for (int i = 0; ok && i < top.size(); i++) {
+                ok = comparator.compare(top.get(i), expected.get(i)) == 0;
+            }
+            check(ok, "TopK k=" + k + " | " + context, "difere do prefixo da ordenação completa");
+        }
+    }
+    
+    // Carga em lotes (o primeiro vira bulk load, os seguintes são intercalados nas folhas)
+    private void checkSortedIndex(List<SatelliteImage> data, Comparator<SatelliteImage> comparator,
+                                  List<SatelliteImage> expected, String criteria, String context) {
+        int n = data.size();
+        SortedIndex index = new SortedIndex(criteria);
+        int batch = Math.max(1, n / 7);
+        index.addAll(data.subList(0, n / 2));
+        for (int from = n / 2; from < n; from += batch) {
+            index.addAll(data.subList(from, Math.min(from + batch, n)));
+        }
+        check(index.size() == n, "SortedIndex | " + context, "tamanho " + index.size());
+        
+        Iterator<SatelliteImage> it = index.iterator();
+        int firstEqual = 0;
+        for (int i = 0; i < n; i++) {
+            if (i > 0 && comparator.compare(expected.get(i - 1), expected.get(i)) != 0) {
+                firstEqual = i;
+            }
+            SatelliteImage item = expected.get(i);
+            boolean ok = comparator.compare(index.get(i), item) == 0 && it.hasNext() &&
+                         comparator.compare(it.next(), item) == 0;
+            // rank = quantidade de itens estritamente menores = primeira posição do grupo de iguais
+            int rank = index.rank(item);
+            if (!check(ok && rank == firstEqual, "SortedIndex | " + context,
+                       "get/rank/iterador na posição " + i + " (rank " + rank + ", esperado " + firstEqual + ")")) {
+                return;
+            }
+        }
+        check(!it.hasNext(), "SortedIndex | " + context, "iterador com itens a mais");
+    }
+    
+    // Critério composto tem vírgulas: toCSV precisa manter as colunas do cabeçalho
+    private void checkCsvColumns(MainController controller) {
+        int expected = countCsvFields(PerformanceResult.getCSVHeader());
+        for (String criteria : CRITERIA) {
+            PerformanceResult result = controller.runSortingTest("TimSort", "Aleatório", 100, criteria);
+            int fields = countCsvFields(result.toCSV());
+            check(fields == expected, "CSV | " + criteria, fields + " colunas, o cabeçalho tem " + expected);
+        }
+        PerformanceResult bare = new PerformanceResult("Top-10", "Aleatório", 10, 0, 0, true, "region,\"q\",-timestamp");
+        int fields = countCsvFields(bare.toCSV());
+        check(fields == expected, "CSV | sem medições", fields + " colunas, o cabeçalho tem " + expected);
+    }
+    
+    // RFC 4180: vírgulas entre aspas não separam campos e "" é uma aspa literal
+    private static int countCsvFields(String line) {
+        int fields = 1;
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (c == ',' && !quoted) {
+                fields++;
+            }
+        }
+        return fields;
+    }
+    
+    private static int firstUnordered(List<SatelliteImage> images, Comparator<SatelliteImage> comparator) {
+        for (int i = 1; i < images.size(); i++) {
+            if (comparator.compare(images.get(i - 1), images.get(i)) > 0) return i;
+        }
+        return -1;
+    }
+    
+    private boolean check(boolean ok, String context, String message) {
+        checks++;
+        if (!ok) fail(context, message);
+        return ok;
+    }
+    
+    private void fail(String context, String message) {
+        failures.add(context + ": " + message);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,359 @@
+import java.util.*;
+
+// Estágio de extração de chaves: converte o critério de ordenação em um long[]
+// primitivo + um int[] de permutação. Os algoritmos ordenam apenas esses dois
+// arrays (sem List.get/set nem compareTo virtual) e a permutação é aplicada
+// uma única vez no final.
+public class SortKeys {
+    private static final int INSERTION_THRESHOLD = 16;
+
+    final long[] keys;
+    final int[] index;
+    final SatelliteImage[] items;
+    final boolean exact; // false quando chaves iguais ainda precisam de desempate
+    private final Comparator<SatelliteImage> comparator;
+
+    private SortKeys(SatelliteImage[] items, long[] keys, boolean exact, Comparator<SatelliteImage> comparator) {
+        this.items = items;
+        this.keys = keys;
+        this.exact = exact;
+        this.comparator = OperationCounters.counting(comparator);
+        this.index = new int[items.length];
+        OperationCounters.allocated(16L * items.length); // itens (referências) + chaves + índice
+        for (int i = 0; i < index.length; i++) {
+            index[i] = i;
+        }
+    }
+
+    public static SortKeys extract(List<SatelliteImage> images, String criteria) {
+        SatelliteImage[] items = images.toArray(new SatelliteImage[0]);
+        int n = items.length;
+        long[] keys = new long[n];
+
+        switch (criteria == null ? "id" : criteria) {
+            case "timestamp":
+                for (int i = 0; i < n; i++) keys[i] = items[i].getTimestamp();
+                return new SortKeys(items, keys, true, comparator(criteria));
+
+            case "latitude":
+                for (int i = 0; i < n; i++) keys[i] = doubleKey(items[i].getLatitude());
+                return new SortKeys(items, keys, true, comparator(criteria));
+
+            case "longitude":
+                for (int i = 0; i < n; i++) keys[i] = doubleKey(items[i].getLongitude());
+                return new SortKeys(items, keys, true, comparator(criteria));
+
+            case "quality":
+                // Poucos valores distintos: a chave é o posto do código no dicionário compartilhado
+                int[] ranks = CategoryDictionary.QUALITY.ranks();
+                for (int i = 0; i < n; i++) keys[i] = ranks[items[i].getQualityCode()];
+                return new SortKeys(items, keys, true, comparator(criteria));
+
+            default: // "id" ou padrão
+                if (isComposite(criteria)) {
+                    return extractComposite(items, keys, criteria);
+                }
+                if (samePackedShape(items)) {
+                    return extractPackedIds(items, keys);
+                }
+                return extractIdPrefix(items, keys);
+        }
+    }
+
+    // Critério composto, ex.: "region,quality,-timestamp" ('-' = decrescente)
+    static boolean isComposite(String criteria) {
+        return criteria != null && (criteria.indexOf(',') >= 0 || criteria.startsWith("-") || "region".equals(criteria));
+    }
+    
+    // Cada campo vira um deslocamento em relação ao seu mínimo (ou máximo, se decrescente)
+    // e ocupa só os bits da sua faixa; os campos são empacotados da esquerda para a
+    // direita em 63 bits. Se um campo não couber inteiro, entram os seus bits altos e o
+    // restante fica para o desempate pelo comparador composto (idem para "id").
+    private static SortKeys extractComposite(SatelliteImage[] items, long[] keys, String criteria) {
+        int n = items.length;
+        long[] column = new long[n];
+        OperationCounters.allocated(8L * n);
+        int remaining = 63;
+        boolean exact = true;
+        
+        for (String raw : criteria.split(",")) {
+            String field = raw.trim();
+            boolean descending = field.startsWith("-");
+            if (descending) field = field.substring(1).trim();
+            
+            if (n == 0) break;
+            if (remaining == 0 || !fieldKeys(items, field, column)) {
+                exact = false;
+                break;
+            }
+            
+            long min = column[0], max = column[0];
+            for (int i = 1; i < n; i++) {
+                min = Math.min(min, column[i]);
+                max = Math.max(max, column[i]);
+            }
+            
+            // Faixa tratada como sem sinal: max - min pode passar de Long.MAX_VALUE
+            int bits = 64 - Long.numberOfLeadingZeros(max - min);
+            int shift = 0;
+            if (bits > remaining) {
+                shift = bits - remaining;
+                bits = remaining;
+                exact = false;
+            }
+            
+            for (int i = 0; i < n; i++) {
+                long offset = descending ? max - column[i] : column[i] - min;
+                keys[i] = (keys[i] << bits) | (offset >>> shift);
+            }
+            remaining -= bits;
+            if (!exact) break;
+        }
+        
+        return new SortKeys(items, keys, exact, comparator(criteria));
+    }
+    
+    // Chave numérica de um campo; false para campos sem chave de tamanho fixo ("id")
+    private static boolean fieldKeys(SatelliteImage[] items, String field, long[] column) {
+        int n = items.length;
+        switch (field) {
+            case "timestamp":
+                for (int i = 0; i < n; i++) column[i] = items[i].getTimestamp();
+                return true;
+            case "latitude":
+                for (int i = 0; i < n; i++) column[i] = doubleKey(items[i].getLatitude());
+                return true;
+            case "longitude":
+                for (int i = 0; i < n; i++) column[i] = doubleKey(items[i].getLongitude());
+                return true;
+            case "quality":
+                int[] qualityRanks = CategoryDictionary.QUALITY.ranks();
+                for (int i = 0; i < n; i++) column[i] = qualityRanks[items[i].getQualityCode()];
+                return true;
+            case "region":
+                int[] regionRanks = CategoryDictionary.REGION.ranks();
+                for (int i = 0; i < n; i++) column[i] = regionRanks[items[i].getRegionCode()];
+                return true;
+            default:
+                return false;
+        }
+    }
+    
+    private static boolean samePackedShape(SatelliteImage[] items) {
+        if (items.length == 0 || items[0].getIdShape() == 0) return false;
+        int shape = items[0].getIdShape();
+        for (SatelliteImage image : items) {
+            if (image.getIdShape() != shape) return false;
+        }
+        return true;
+    }
+    
+    // Ids empacotados do mesmo formato: 128 bits em ordem sem sinal. Os nibbles comuns a
+    // todos são pulados e a chave são os 64 bits seguintes; se nada varia depois dessa
+    // janela a chave já é exata (é o caso de ids gerados no mesmo segundo).
+    private static SortKeys extractPackedIds(SatelliteImage[] items, long[] keys) {
+        int n = items.length;
+        long firstHigh = items[0].getIdHigh(), firstLow = items[0].getIdLow();
+        long diffHigh = 0, diffLow = 0;
+        for (SatelliteImage image : items) {
+            diffHigh |= image.getIdHigh() ^ firstHigh;
+            diffLow |= image.getIdLow() ^ firstLow;
+        }
+        
+        int skip = diffHigh != 0 ? Long.numberOfLeadingZeros(diffHigh) & ~3
+                                 : 64 + (Long.numberOfLeadingZeros(diffLow) & ~3);
+        for (int i = 0; i < n; i++) {
+            long high = items[i].getIdHigh(), low = items[i].getIdLow();
+            long window;
+            if (skip == 0) window = high;
+            else if (skip < 64) window = (high << skip) | (low >>> (64 - skip));
+            else if (skip < 128) window = low << (skip - 64);
+            else window = 0;
+            keys[i] = window ^ Long.MIN_VALUE;
+        }
+        
+        boolean exact = skip >= 64 || (diffLow << skip) == 0;
+        return new SortKeys(items, keys, exact, comparator("id"));
+    }
+    
+    // Os ids compartilham um prefixo longo (SAT_IMG_yyyyMMddHHmmss_...), então a
+    // chave empacota os caracteres logo após o prefixo comum; empates são
+    // resolvidos depois com compareTo.
+    private static SortKeys extractIdPrefix(SatelliteImage[] items, long[] keys) {
+        int n = items.length;
+        // Caracteres lidos direto da imagem (idCharAt): ids empacotados não são decodificados
+        int lcp = n > 0 ? items[0].idLength() : 0;
+        int maxLength = 0;
+        boolean narrow = true;
+
+        for (SatelliteImage id : items) {
+            int length = id.idLength();
+            int limit = Math.min(lcp, length);
+            int p = 0;
+            while (p < limit && id.idCharAt(p) == items[0].idCharAt(p)) p++;
+            lcp = p;
+            maxLength = Math.max(maxLength, length);
+        }
+        for (SatelliteImage id : items) {
+            for (int p = lcp; p < Math.min(id.idLength(), lcp + 8); p++) {
+                if (id.idCharAt(p) > 0xFF) {
+                    narrow = false;
+                    break;
+                }
+            }
+            if (!narrow) break;
+        }
+
+        // 8 caracteres de 8 bits quando o trecho é Latin-1, senão 4 de 16 bits
+        int width = narrow ? 8 : 4;
+        int bits = narrow ? 8 : 16;
+        boolean sawZero = false;
+
+        for (int i = 0; i < n; i++) {
+            SatelliteImage id = items[i];
+            int length = id.idLength();
+            long key = 0;
+            for (int p = lcp; p < lcp + width; p++) {
+                char c = p < length ? id.idCharAt(p) : 0;
+                if (c == 0 && p < length) sawZero = true;
+                key = (key << bits) | c;
+            }
+            keys[i] = key ^ Long.MIN_VALUE; // ordem sem sinal -> ordem com sinal
+        }
+
+        boolean exact = maxLength <= lcp + width && !sawZero;
+        return new SortKeys(items, keys, exact, comparator("id"));
+    }
+
+    // Bits IEEE 754 ajustados para que a comparação de long siga Double.compare
+    static long doubleKey(double value) {
+        long bits = Double.doubleToLongBits(value);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    public static Comparator<SatelliteImage> comparator(String criteria) {
+        switch (criteria == null ? "id" : criteria) {
+            case "timestamp":
+                return SatelliteImage::compareByTimestamp;
+            case "latitude":
+                return SatelliteImage::compareByLatitude;
+            case "longitude":
+                return SatelliteImage::compareByLongitude;
+            case "quality":
+                return SatelliteImage::compareByQuality;
+            case "region":
+                return SatelliteImage::compareByRegion;
+            default:
+                if (isComposite(criteria)) {
+                    return compositeComparator(criteria);
+                }
+                return Comparator.naturalOrder();
+        }
+    }
+
+    private static Comparator<SatelliteImage> compositeComparator(String criteria) {
+        Comparator<SatelliteImage> result = null;
+        for (String raw : criteria.split(",")) {
+            String field = raw.trim();
+            boolean descending = field.startsWith("-");
+            if (descending) field = field.substring(1).trim();
+            
+            if (!field.equals("id") && !field.equals("timestamp") && !field.equals("latitude") &&
+                !field.equals("longitude") && !field.equals("quality") && !field.equals("region")) {
+                throw new IllegalArgumentException("Campo de ordenação desconhecido: " + field);
+            }
+            
+            Comparator<SatelliteImage> next = comparator(field);
+            if (descending) next = next.reversed();
+            result = result == null ? next : result.thenComparing(next);
+        }
+        return result;
+    }
+    
+    public int size() {
+        return keys.length;
+    }
+
+    // Aplica a permutação ordenada de volta na lista (uma escrita por posição)
+    public void applyTo(List<SatelliteImage> images) {
+        if (!exact) {
+            resolveTies(keys.length);
+        }
+        OperationCounters.moves(index.length);
+        for (int i = 0; i < index.length; i++) {
+            images.set(i, items[index[i]]);
+        }
+    }
+
+    // Os k primeiros itens quando só o prefixo [0, limit) está ordenado (seleção top-k)
+    public List<SatelliteImage> head(int k, int limit) {
+        if (!exact) {
+            resolveTies(limit);
+        }
+        List<SatelliteImage> result = new ArrayList<>(k);
+        for (int i = 0; i < k; i++) {
+            result.add(items[index[i]]);
+        }
+        return result;
+    }
+    
+    // Ordena, de forma estável, cada grupo de chaves iguais em [0, n) pelo comparador completo
+    private void resolveTies(int n) {
+        int[] scratch = null;
+        int start = 0;
+
+        while (start < n) {
+            int end = start + 1;
+            while (end < n && keys[end] == keys[start]) end++;
+
+            if (end - start > 1) {
+                if (end - start <= INSERTION_THRESHOLD) {
+                    insertionSort(start, end - 1);
+                } else {
+                    if (scratch == null) {
+                        scratch = new int[n];
+                        OperationCounters.allocated(4L * n);
+                    }
+                    mergeSort(scratch, start, end - 1);
+                }
+            }
+            start = end;
+        }
+    }
+
+    private void insertionSort(int left, int right) {
+        for (int i = left + 1; i <= right; i++) {
+            int temp = index[i];
+            int j = i - 1;
+            while (j >= left && comparator.compare(items[index[j]], items[temp]) > 0) {
+                index[j + 1] = index[j];
+                j--;
+            }
+            OperationCounters.moves(i - 1 - j); // deslocamentos
+            index[j + 1] = temp;
+        }
+    }
+
+    private void mergeSort(int[] scratch, int left, int right) {
+        if (right - left < INSERTION_THRESHOLD) {
+            insertionSort(left, right);
+            return;
+        }
+        int mid = left + (right - left) / 2;
+        mergeSort(scratch, left, mid);
+        mergeSort(scratch, mid + 1, right);
+
+        System.arraycopy(index, left, scratch, left, right - left + 1);
+        OperationCounters.moves(right - left + 1);
+        int i = left, j = mid + 1, k = left;
+        while (i <= mid && j <= right) {
+            if (comparator.compare(items[scratch[i]], items[scratch[j]]) <= 0) {
+                index[k++] = scratch[i++];
+            } else {
+                index[k++] = scratch[j++];
+            }
+        }
+        while (i <= mid) index[k++] = scratch[i++];
+        while (j <= right) index[k++] = scratch[j++];
+    }
+}
\ No newline at end of file
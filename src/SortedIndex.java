@@ -0,0 +1,221 @@
+import java.util.*;
+
+// Índice ordenado mantido incrementalmente para um critério: um array em blocos
+// (folhas de até LEAF_CAPACITY imagens, como as folhas de uma B+-tree). Lotes novos
+// são ordenados e intercalados nas folhas em O(lote · log n), sem reordenar o catálogo.
+// Não é thread-safe: o MainController sincroniza o acesso.
+public class SortedIndex implements Iterable<SatelliteImage> {
+    private static final int LEAF_CAPACITY = 512;
+    private static final int BULK_FILL = LEAF_CAPACITY * 3 / 4; // folga para inserções futuras
+    
+    private final String sortCriteria;
+    private final Comparator<SatelliteImage> comparator;
+    private final SortingAlgorithm batchSorter = new MergeSort(); // estável: empates na ordem de chegada
+    private final List<List<SatelliteImage>> leaves = new ArrayList<>();
+    private int[] leafStart = new int[1]; // posição global do primeiro item de cada folha
+    private int validOffsets;             // leafStart[0..validOffsets] está atualizado; o resto é refeito sob demanda
+    private int size;
+    
+    public SortedIndex(String sortCriteria) {
+        this.sortCriteria = sortCriteria;
+        this.comparator = SortKeys.comparator(sortCriteria);
+    }
+    
+    public void add(SatelliteImage image) {
+        addAll(Collections.singletonList(image));
+    }
+    
+    public void addAll(Collection<SatelliteImage> images) {
+        if (images.isEmpty()) return;
+        
+        List<SatelliteImage> batch = new ArrayList<>(images);
+        batchSorter.sort(batch, sortCriteria);
+        
+        if (size == 0) {
+            bulkLoad(batch);
+        } else {
+            // O lote está ordenado, então a folha de destino só avança: a busca
+            // recomeça da última folha usada
+            int leaf = 0;
+            for (SatelliteImage image : batch) {
+                leaf = findLeafForInsert(image, leaf);
+                validOffsets = Math.min(validOffsets, leaf); // só as folhas depois desta se deslocam
+                List<SatelliteImage> items = leaves.get(leaf);
+                items.add(upperBound(items, image), image);
+                if (items.size() > LEAF_CAPACITY) {
+                    splitLeaf(leaf);
+                }
+            }
+            size += batch.size();
+        }
+    }
+    
+    private void bulkLoad(List<SatelliteImage> sorted) {
+        for (int from = 0; from < sorted.size(); from += BULK_FILL) {
+            int to = Math.min(from + BULK_FILL, sorted.size());
+            leaves.add(new ArrayList<>(sorted.subList(from, to)));
+        }
+        size = sorted.size();
+    }
+    
+    // Primeira folha (a partir de 'from') cujo último item é maior que a imagem; senão a última
+    private int findLeafForInsert(SatelliteImage image, int from) {
+        int lo = from, hi = leaves.size() - 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            List<SatelliteImage> items = leaves.get(mid);
+            if (comparator.compare(items.get(items.size() - 1), image) <= 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+    
+    private void splitLeaf(int leaf) {
+        List<SatelliteImage> items = leaves.get(leaf);
+        int half = items.size() / 2;
+        List<SatelliteImage> right = new ArrayList<>(items.subList(half, items.size()));
+        items.subList(half, items.size()).clear();
+        leaves.add(leaf + 1, right);
+    }
+    
+    // Refaz os offsets só a partir da primeira folha alterada desde a última consulta:
+    // inserções no fim (ex.: imagens novas por timestamp) não recalculam nada antes delas
+    private void updateOffsets() {
+        int count = leaves.size();
+        if (validOffsets == count) return;
+        if (leafStart.length < count + 1) {
+            leafStart = Arrays.copyOf(leafStart, Math.max(count + 1, 2 * leafStart.length));
+        }
+        for (int i = validOffsets; i < count; i++) {
+            leafStart[i + 1] = leafStart[i] + leaves.get(i).size();
+        }
+        validOffsets = count;
+    }
+    
+    // Imagem na posição 'rank' da ordem do critério
+    public SatelliteImage get(int rank) {
+        if (rank < 0 || rank >= size) {
+            throw new IndexOutOfBoundsException("Posição fora do índice: " + rank);
+        }
+        updateOffsets();
+        int leaf = leafOf(rank);
+        return leaves.get(leaf).get(rank - leafStart[leaf]);
+    }
+    
+    // Quantidade de imagens estritamente menores que 'probe' pelo critério
+    public int rank(SatelliteImage probe) {
+        int lo = 0, hi = leaves.size();
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            List<SatelliteImage> items = leaves.get(mid);
+            if (comparator.compare(items.get(items.size() - 1), probe) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        if (lo == leaves.size()) return size;
+        updateOffsets();
+        return leafStart[lo] + lowerBound(leaves.get(lo), probe);
+    }
+    
+    private int lowerBound(List<SatelliteImage> items, SatelliteImage probe) {
+        int lo = 0, hi = items.size();
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (comparator.compare(items.get(mid), probe) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+    
+    private int upperBound(List<SatelliteImage> items, SatelliteImage probe) {
+        int lo = 0, hi = items.size();
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (comparator.compare(items.get(mid), probe) <= 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+    
+    // As primeiras 'count' imagens a partir da posição 'from', em ordem
+    public List<SatelliteImage> range(int from, int count) {
+        List<SatelliteImage> result = new ArrayList<>(Math.max(0, Math.min(count, size - from)));
+        Iterator<SatelliteImage> it = iterator(from);
+        while (result.size() < count && it.hasNext()) {
+            result.add(it.next());
+        }
+        return result;
+    }
+    
+    public List<SatelliteImage> toList() {
+        return range(0, size);
+    }
+    
+    @Override
+    public Iterator<SatelliteImage> iterator() {
+        return iterator(0);
+    }
+    
+    private Iterator<SatelliteImage> iterator(int from) {
+        updateOffsets();
+        return new Iterator<SatelliteImage>() {
+            private int position = Math.max(0, from);
+            private int leaf = position < size ? leafOf(position) : leaves.size();
+            private int offset = position < size ? position - leafStart[leaf] : 0;
+            
+            @Override
+            public boolean hasNext() {
+                return position < size;
+            }
+            
+            @Override
+            public SatelliteImage next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                SatelliteImage image = leaves.get(leaf).get(offset++);
+                position++;
+                if (offset == leaves.get(leaf).size()) {
+                    leaf++;
+                    offset = 0;
+                }
+                return image;
+            }
+        };
+    }
+    
+    // Última folha que começa em uma posição <= rank
+    private int leafOf(int rank) {
+        int lo = 0, hi = leaves.size() - 1;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (leafStart[mid] <= rank) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return lo;
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    public String getSortCriteria() {
+        return sortCriteria;
+    }
+    
+    public int getLeafCount() {
+        return leaves.size();
+    }
+}
\ No newline at end of file
@@ -1,9 +1,25 @@
 import java.util.List;
 
 public interface SortingAlgorithm {
-    void sort(List<SatelliteImage> images);
+    void sort(List<SatelliteImage> images, String sortCriteria);
+    
+    default void sort(List<SatelliteImage> images) {
+        sort(images, "id");
+    }
+    
     String getName();
     String getDescription();
     String getTimeComplexity();
     String getSpaceComplexity();
+    
+    // true quando parte da ordenação roda em outras threads (pools): a medição por thread
+    // do ResourceMeter (alocação, CPU) cobre só a thread chamadora e fica parcial
+    default boolean usesWorkerThreads() {
+        return false;
+    }
+    
+    // true quando itens iguais pelo critério mantêm a ordem de entrada (conferido pelo SelfCheck)
+    default boolean isStable() {
+        return false;
+    }
 }
\ No newline at end of file
@@ -8,6 +8,7 @@ public class SortingPanel extends JPanel {
     private JComboBox<String> dataTypeComboBox;
     private JComboBox<String> sortCriteriaComboBox;
     private JSpinner dataSizeSpinner;
+    private JSpinner topKSpinner;
     private JTextArea resultsArea;
     private JProgressBar progressBar;
     private Map<String, JCheckBox> algorithmCheckboxes;
@@ -27,7 +28,7 @@ public class SortingPanel extends JPanel {
     
     public SortingPanel(MainController controller) {
         this.controller = controller;
-        this.algorithmCheckboxes = new HashMap<>();
+        this.algorithmCheckboxes = new LinkedHashMap<>();
         initializePanel();
     }
     
@@ -112,7 +113,7 @@ public class SortingPanel extends JPanel {
         
         panel.add(Box.createVerticalStrut(10));
         
-        JPanel checkboxesPanel = new JPanel(new GridLayout(0, 1, 5, 5));
+        JPanel checkboxesPanel = new JPanel(new GridLayout(0, 2, 5, 5));
         checkboxesPanel.setBackground(CARD_BG);
         checkboxesPanel.setAlignmentX(Component.LEFT_ALIGNMENT);
         
@@ -200,7 +201,8 @@ public class SortingPanel extends JPanel {
         panel.add(Box.createVerticalStrut(8));
         
         sortCriteriaComboBox = new JComboBox<>(new String[]{
-            "id", "timestamp", "latitude", "longitude", "quality"
+            "id", "timestamp", "latitude", "longitude", "quality", "region",
+            "region,quality,-timestamp"
         });
         styleComboBox(sortCriteriaComboBox);
         panel.add(sortCriteriaComboBox);
@@ -237,6 +239,23 @@ public class SortingPanel extends JPanel {
         sizePanel.add(unitLabel, BorderLayout.EAST);
         
         panel.add(sizePanel);
+        panel.add(Box.createVerticalStrut(8));
+        
+        JPanel topKPanel = new JPanel(new BorderLayout(10, 0));
+        topKPanel.setBackground(CARD_BG);
+        topKPanel.setAlignmentX(Component.LEFT_ALIGNMENT);
+        
+        topKSpinner = new JSpinner(new SpinnerNumberModel(100, 1, 100000, 100));
+        styleSpinner(topKSpinner);
+        
+        JLabel topKLabel = new JLabel("k (Top-K)");
+        topKLabel.setFont(new Font("Segoe UI", Font.PLAIN, 11));
+        topKLabel.setForeground(TEXT_SECONDARY);
+        
+        topKPanel.add(topKSpinner, BorderLayout.CENTER);
+        topKPanel.add(topKLabel, BorderLayout.EAST);
+        
+        panel.add(topKPanel);
         return panel;
     }
     
@@ -303,6 +322,7 @@ public class SortingPanel extends JPanel {
         buttonPanel.add(createButton("🧪 Individual", ACCENT, this::runSingleTest));
         buttonPanel.add(createButton("🔬 Comparativo", SUCCESS, this::runMultipleTests));
         buttonPanel.add(createButton("📈 Escalabilidade", PURPLE, this::runScalabilityTest));
+        buttonPanel.add(createButton("🏅 Top-K", WARNING, this::runTopKTest));
         buttonPanel.add(createButton("🗑️ Limpar", DANGER, this::clearResults));
         
         JPanel progressPanel = new JPanel(new BorderLayout());
@@ -419,8 +439,8 @@ public class SortingPanel extends JPanel {
         
         String dataType = (String) dataTypeComboBox.getSelectedItem();
         int dataSize = (Integer) dataSizeSpinner.getValue();
+        String criteria = (String) sortCriteriaComboBox.getSelectedItem();
         
-        // CORREÇÃO: Usar a assinatura correta do método (sem criteria)
         executeTest(() -> {
             try {
                 // CORREÇÃO: Verificar se o controller não é nulo
@@ -428,7 +448,7 @@ public class SortingPanel extends JPanel {
                     throw new IllegalStateException("Controller não inicializado");
                 }
                 
-                List<PerformanceResult> results = controller.performComparativeTest(dataSize, dataType);
+                List<PerformanceResult> results = controller.performComparativeTest(dataSize, dataType, criteria);
                 
                 SwingUtilities.invokeLater(() -> {
                     showStatus("🟢 Testes comparativos concluídos!", SUCCESS);
@@ -437,6 +457,7 @@ public class SortingPanel extends JPanel {
                     appendHeader("=== TESTE COMPARATIVO ===");
                     appendHeader("Tipo de Dados: " + dataType);
                     appendHeader("Tamanho: " + dataSize + " elementos");
+                    appendHeader("Critério: " + criteria);
                     appendHeader("Data: " + new Date());
                     appendHeader("");
                     
@@ -504,6 +525,53 @@ public class SortingPanel extends JPanel {
         }, "Testando escalabilidade...");
     }
     
+    private void runTopKTest() {
+        List<String> selected = getSelectedAlgorithms();
+        if (selected.isEmpty()) {
+            showStatus("🔴 Selecione pelo menos um algoritmo!", DANGER);
+            return;
+        }
+        
+        String algorithm = selected.get(0);
+        String dataType = (String) dataTypeComboBox.getSelectedItem();
+        int dataSize = (Integer) dataSizeSpinner.getValue();
+        String criteria = (String) sortCriteriaComboBox.getSelectedItem();
+        int k = (Integer) topKSpinner.getValue();
+        
+        executeTest(() -> {
+            try {
+                if (controller == null) {
+                    throw new IllegalStateException("Controller não inicializado");
+                }
+                
+                List<PerformanceResult> results = controller.runTopKBenchmark(algorithm, dataType, dataSize, criteria, k);
+                
+                SwingUtilities.invokeLater(() -> {
+                    showStatus("🟢 Teste Top-K concluído!", SUCCESS);
+                    resultsArea.setText("");
+                    
+                    appendHeader("=== TOP-K vs ORDENAÇÃO COMPLETA ===");
+                    appendHeader("Tipo de Dados: " + dataType);
+                    appendHeader("Tamanho: " + dataSize + " elementos | k = " + k);
+                    appendHeader("Critério: " + criteria);
+                    appendHeader("Data: " + new Date());
+                    appendHeader("");
+                    
+                    for (PerformanceResult result : results) {
+                        appendResult(result);
+                    }
+                    
+                    updatePerformanceSummary();
+                });
+            } catch (Exception e) {
+                SwingUtilities.invokeLater(() -> {
+                    showStatus("🔴 Erro no teste Top-K", DANGER);
+                    appendError("Erro: " + e.getMessage());
+                });
+            }
+        }, "Executando Top-K...");
+    }
+    
     private void executeTest(Runnable test, String message) {
         new Thread(() -> {
             SwingUtilities.invokeLater(() -> {
@@ -556,6 +624,7 @@ public class SortingPanel extends JPanel {
             result.isSuccess() ? "✅" : "❌"
         );
         resultsArea.append(line);
+        appendOperationCounts(result);
         resultsArea.setCaretPosition(resultsArea.getText().length());
     }
     
@@ -567,6 +636,7 @@ public class SortingPanel extends JPanel {
             result.isSuccess() ? "✅" : "❌"
         );
         resultsArea.append(line);
+        appendOperationCounts(result);
         resultsArea.setCaretPosition(resultsArea.getText().length());
     }
     
@@ -578,9 +648,17 @@ public class SortingPanel extends JPanel {
             result.isSuccess() ? "✅" : "❌"
         );
         resultsArea.append(line);
+        appendOperationCounts(result);
         resultsArea.setCaretPosition(resultsArea.getText().length());
     }
     
+    // Contadores de operações (só com enable.operation.counters=true)
+    private void appendOperationCounts(PerformanceResult result) {
+        if (result.getOperationCounts() != null) {
+            resultsArea.append("   🔢 " + result.getOperationCounts() + "\n");
+        }
+    }
+    
     private void appendError(String error) {
         resultsArea.append("❌ " + error + "\n");
         resultsArea.setCaretPosition(resultsArea.getText().length());
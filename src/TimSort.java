@@ -1,63 +1,461 @@
-import java.util.ArrayList;
 import java.util.List;
 
 public class TimSort implements SortingAlgorithm {
-    private static final int RUN = 32;
+    private static final int MIN_MERGE = 32;
+    private static final int MIN_GALLOP = 7;
     
     @Override
-    public void sort(List<SatelliteImage> images) {
+    public void sort(List<SatelliteImage> images, String sortCriteria) {
         if (images == null || images.size() <= 1) return;
         
-        int n = images.size();
+        SortKeys sortKeys = SortKeys.extract(images, sortCriteria);
+        new RunMerger(sortKeys.keys, sortKeys.index).sort();
+        sortKeys.applyTo(images);
+    }
+    
+    // minrun entre MIN_MERGE/2 e MIN_MERGE, escolhido para que n/minrun seja
+    // uma potência de 2 (ou um pouco menos), equilibrando os merges finais
+    static int minRunLength(int n) {
+        int r = 0;
+        while (n >= MIN_MERGE) {
+            r |= (n & 1);
+            n >>= 1;
+        }
+        return n + r;
+    }
+    
+    // Estado de uma ordenação: pilha de runs, buffer temporário único e minGallop adaptativo
+    private static final class RunMerger {
+        private final long[] keys;
+        private final int[] index;
+        private final long[] tmpKeys;
+        private final int[] tmpIndex;
+        private final int[] runBase;
+        private final int[] runLen;
+        private int stackSize = 0;
+        private int minGallop = MIN_GALLOP;
         
-        for (int i = 0; i < n; i += RUN) {
-            insertionSort(images, i, Math.min((i + RUN - 1), (n - 1)));
+        RunMerger(long[] keys, int[] index) {
+            this.keys = keys;
+            this.index = index;
+            
+            int n = keys.length;
+            // Um merge nunca copia mais que o menor dos dois runs (<= n/2)
+            this.tmpKeys = new long[n / 2 + 1];
+            this.tmpIndex = new int[n / 2 + 1];
+            OperationCounters.allocated(12L * (n / 2 + 1));
+            
+            int stackLen = (n < 120 ? 5 : n < 1542 ? 10 : n < 119151 ? 24 : 49);
+            this.runBase = new int[stackLen];
+            this.runLen = new int[stackLen];
         }
         
-        for (int size = RUN; size < n; size = 2 * size) {
-            for (int left = 0; left < n; left += 2 * size) {
-                int mid = left + size - 1;
-                int right = Math.min((left + 2 * size - 1), (n - 1));
+        void sort() {
+            int lo = 0;
+            int hi = keys.length;
+            int remaining = hi;
+            
+            if (remaining < MIN_MERGE) {
+                int initRunLen = countRunAndMakeAscending(lo, hi);
+                binarySort(lo, hi, lo + initRunLen);
+                return;
+            }
+            
+            int minRun = minRunLength(remaining);
+            do {
+                // Run natural (descendentes estritos são invertidos)
+                int runLength = countRunAndMakeAscending(lo, hi);
                 
-                if (mid < right) {
-                    merge(images, left, mid, right);
+                // Runs curtos são estendidos até minrun com insertion sort binário
+                if (runLength < minRun) {
+                    int force = remaining <= minRun ? remaining : minRun;
+                    binarySort(lo, lo + force, lo + runLength);
+                    runLength = force;
                 }
+                
+                pushRun(lo, runLength);
+                mergeCollapse();
+                
+                lo += runLength;
+                remaining -= runLength;
+            } while (remaining != 0);
+            
+            mergeForceCollapse();
+        }
+        
+        private int countRunAndMakeAscending(int lo, int hi) {
+            int runHi = lo + 1;
+            if (runHi == hi) return 1;
+            
+            if (OperationCounters.less(keys[runHi++], keys[lo])) {
+                while (runHi < hi && OperationCounters.less(keys[runHi], keys[runHi - 1])) runHi++;
+                reverseRange(lo, runHi);
+            } else {
+                while (runHi < hi && !OperationCounters.less(keys[runHi], keys[runHi - 1])) runHi++;
             }
+            return runHi - lo;
         }
-    }
-    
-    private void insertionSort(List<SatelliteImage> images, int left, int right) {
-        for (int i = left + 1; i <= right; i++) {
-            SatelliteImage temp = images.get(i);
-            int j = i - 1;
-            while (j >= left && images.get(j).compareTo(temp) > 0) {
-                images.set(j + 1, images.get(j));
-                j--;
-            }
-            images.set(j + 1, temp);
+        
+        private void reverseRange(int lo, int hi) {
+            hi--;
+            while (lo < hi) {
+                OperationCounters.swap();
+                long key = keys[lo];
+                keys[lo] = keys[hi];
+                keys[hi] = key;
+                int idx = index[lo];
+                index[lo++] = index[hi];
+                index[hi--] = idx;
+            }
         }
-    }
-    
-    private void merge(List<SatelliteImage> images, int l, int m, int r) {
-        List<SatelliteImage> left = new ArrayList<>(images.subList(l, m + 1));
-        List<SatelliteImage> right = new ArrayList<>(images.subList(m + 1, r + 1));
         
-        int i = 0, j = 0, k = l;
+        private void binarySort(int lo, int hi, int start) {
+            if (start == lo) start++;
+            for (; start < hi; start++) {
+                long pivot = keys[start];
+                int pivotIndex = index[start];
+                
+                int left = lo;
+                int right = start;
+                while (left < right) {
+                    int mid = (left + right) >>> 1;
+                    if (OperationCounters.less(pivot, keys[mid])) {
+                        right = mid;
+                    } else {
+                        left = mid + 1;
+                    }
+                }
+                
+                int count = start - left;
+                OperationCounters.moves(count);
+                System.arraycopy(keys, left, keys, left + 1, count);
+                System.arraycopy(index, left, index, left + 1, count);
+                keys[left] = pivot;
+                index[left] = pivotIndex;
+            }
+        }
         
-        while (i < left.size() && j < right.size()) {
-            if (left.get(i).compareTo(right.get(j)) <= 0) {
-                images.set(k++, left.get(i++));
+        private void pushRun(int base, int length) {
+            runBase[stackSize] = base;
+            runLen[stackSize] = length;
+            stackSize++;
+        }
+        
+        // Mantém os invariantes da pilha: runLen[i-2] > runLen[i-1] + runLen[i] e runLen[i-1] > runLen[i]
+        private void mergeCollapse() {
+            while (stackSize > 1) {
+                int n = stackSize - 2;
+                if (n > 0 && runLen[n - 1] <= runLen[n] + runLen[n + 1]
+                        || n > 1 && runLen[n - 2] <= runLen[n] + runLen[n - 1]) {
+                    if (runLen[n - 1] < runLen[n + 1]) n--;
+                } else if (runLen[n] > runLen[n + 1]) {
+                    break;
+                }
+                mergeAt(n);
+            }
+        }
+        
+        private void mergeForceCollapse() {
+            while (stackSize > 1) {
+                int n = stackSize - 2;
+                if (n > 0 && runLen[n - 1] < runLen[n + 1]) n--;
+                mergeAt(n);
+            }
+        }
+        
+        private void mergeAt(int i) {
+            int base1 = runBase[i];
+            int len1 = runLen[i];
+            int base2 = runBase[i + 1];
+            int len2 = runLen[i + 1];
+            
+            runLen[i] = len1 + len2;
+            if (i == stackSize - 3) {
+                runBase[i + 1] = runBase[i + 2];
+                runLen[i + 1] = runLen[i + 2];
+            }
+            stackSize--;
+            
+            // Elementos do início do run1 e do fim do run2 que já estão no lugar não são movidos
+            int k = gallopRight(keys[base2], keys, base1, len1, 0);
+            base1 += k;
+            len1 -= k;
+            if (len1 == 0) return;
+            
+            len2 = gallopLeft(keys[base1 + len1 - 1], keys, base2, len2, len2 - 1);
+            if (len2 == 0) return;
+            
+            if (len1 <= len2) {
+                mergeLo(base1, len1, base2, len2);
             } else {
-                images.set(k++, right.get(j++));
+                mergeHi(base1, len1, base2, len2);
             }
         }
         
-        while (i < left.size()) {
-            images.set(k++, left.get(i++));
+        // Posição mais à esquerda onde key pode ser inserida em a[base, base+len)
+        private static int gallopLeft(long key, long[] a, int base, int len, int hint) {
+            int lastOfs = 0;
+            int ofs = 1;
+            if (OperationCounters.less(a[base + hint], key)) {
+                int maxOfs = len - hint;
+                while (ofs < maxOfs && OperationCounters.less(a[base + hint + ofs], key)) {
+                    lastOfs = ofs;
+                    ofs = (ofs << 1) + 1;
+                    if (ofs <= 0) ofs = maxOfs;
+                }
+                if (ofs > maxOfs) ofs = maxOfs;
+                lastOfs += hint;
+                ofs += hint;
+            } else {
+                int maxOfs = hint + 1;
+                while (ofs < maxOfs && !OperationCounters.less(a[base + hint - ofs], key)) {
+                    lastOfs = ofs;
+                    ofs = (ofs << 1) + 1;
+                    if (ofs <= 0) ofs = maxOfs;
+                }
+                if (ofs > maxOfs) ofs = maxOfs;
+                int tmp = lastOfs;
+                lastOfs = hint - ofs;
+                ofs = hint - tmp;
+            }
+            
+            lastOfs++;
+            while (lastOfs < ofs) {
+                int m = lastOfs + ((ofs - lastOfs) >>> 1);
+                if (OperationCounters.less(a[base + m], key)) {
+                    lastOfs = m + 1;
+                } else {
+                    ofs = m;
+                }
+            }
+            return ofs;
         }
         
-        while (j < right.size()) {
-            images.set(k++, right.get(j++));
+        // Posição mais à direita onde key pode ser inserida (preserva a estabilidade)
+        private static int gallopRight(long key, long[] a, int base, int len, int hint) {
+            int ofs = 1;
+            int lastOfs = 0;
+            if (OperationCounters.less(key, a[base + hint])) {
+                int maxOfs = hint + 1;
+                while (ofs < maxOfs && OperationCounters.less(key, a[base + hint - ofs])) {
+                    lastOfs = ofs;
+                    ofs = (ofs << 1) + 1;
+                    if (ofs <= 0) ofs = maxOfs;
+                }
+                if (ofs > maxOfs) ofs = maxOfs;
+                int tmp = lastOfs;
+                lastOfs = hint - ofs;
+                ofs = hint - tmp;
+            } else {
+                int maxOfs = len - hint;
+                while (ofs < maxOfs && !OperationCounters.less(key, a[base + hint + ofs])) {
+                    lastOfs = ofs;
+                    ofs = (ofs << 1) + 1;
+                    if (ofs <= 0) ofs = maxOfs;
+                }
+                if (ofs > maxOfs) ofs = maxOfs;
+                lastOfs += hint;
+                ofs += hint;
+            }
+            
+            lastOfs++;
+            while (lastOfs < ofs) {
+                int m = lastOfs + ((ofs - lastOfs) >>> 1);
+                if (OperationCounters.less(key, a[base + m])) {
+                    ofs = m;
+                } else {
+                    lastOfs = m + 1;
+                }
+            }
+            return ofs;
+        }
+        
+        // Merge da esquerda para a direita, com o run1 (menor) copiado para o buffer
+        private void mergeLo(int base1, int len1, int base2, int len2) {
+            OperationCounters.moves(2L * len1 + len2); // cópia para o buffer + cada elemento gravado uma vez
+            System.arraycopy(keys, base1, tmpKeys, 0, len1);
+            System.arraycopy(index, base1, tmpIndex, 0, len1);
+            int cursor1 = 0;
+            int cursor2 = base2;
+            int dest = base1;
+            
+            keys[dest] = keys[cursor2];
+            index[dest++] = index[cursor2++];
+            if (--len2 == 0) {
+                System.arraycopy(tmpKeys, cursor1, keys, dest, len1);
+                System.arraycopy(tmpIndex, cursor1, index, dest, len1);
+                return;
+            }
+            if (len1 == 1) {
+                System.arraycopy(keys, cursor2, keys, dest, len2);
+                System.arraycopy(index, cursor2, index, dest, len2);
+                keys[dest + len2] = tmpKeys[cursor1];
+                index[dest + len2] = tmpIndex[cursor1];
+                return;
+            }
+            
+            int minGallop = this.minGallop;
+            outer:
+            while (true) {
+                int count1 = 0;
+                int count2 = 0;
+                
+                // Modo normal: um elemento por vez até um dos lados "vencer" minGallop vezes seguidas
+                do {
+                    if (OperationCounters.less(keys[cursor2], tmpKeys[cursor1])) {
+                        keys[dest] = keys[cursor2];
+                        index[dest++] = index[cursor2++];
+                        count2++;
+                        count1 = 0;
+                        if (--len2 == 0) break outer;
+                    } else {
+                        keys[dest] = tmpKeys[cursor1];
+                        index[dest++] = tmpIndex[cursor1++];
+                        count1++;
+                        count2 = 0;
+                        if (--len1 == 1) break outer;
+                    }
+                } while ((count1 | count2) < minGallop);
+                
+                // Modo galloping: busca exponencial e cópia em bloco
+                do {
+                    count1 = gallopRight(keys[cursor2], tmpKeys, cursor1, len1, 0);
+                    if (count1 != 0) {
+                        System.arraycopy(tmpKeys, cursor1, keys, dest, count1);
+                        System.arraycopy(tmpIndex, cursor1, index, dest, count1);
+                        dest += count1;
+                        cursor1 += count1;
+                        len1 -= count1;
+                        if (len1 <= 1) break outer;
+                    }
+                    keys[dest] = keys[cursor2];
+                    index[dest++] = index[cursor2++];
+                    if (--len2 == 0) break outer;
+                    
+                    count2 = gallopLeft(tmpKeys[cursor1], keys, cursor2, len2, 0);
+                    if (count2 != 0) {
+                        System.arraycopy(keys, cursor2, keys, dest, count2);
+                        System.arraycopy(index, cursor2, index, dest, count2);
+                        dest += count2;
+                        cursor2 += count2;
+                        len2 -= count2;
+                        if (len2 == 0) break outer;
+                    }
+                    keys[dest] = tmpKeys[cursor1];
+                    index[dest++] = tmpIndex[cursor1++];
+                    if (--len1 == 1) break outer;
+                    minGallop--;
+                } while (count1 >= MIN_GALLOP | count2 >= MIN_GALLOP);
+                
+                if (minGallop < 0) minGallop = 0;
+                minGallop += 2; // penaliza a saída do modo galloping
+            }
+            this.minGallop = minGallop < 1 ? 1 : minGallop;
+            
+            if (len1 == 1) {
+                System.arraycopy(keys, cursor2, keys, dest, len2);
+                System.arraycopy(index, cursor2, index, dest, len2);
+                keys[dest + len2] = tmpKeys[cursor1];
+                index[dest + len2] = tmpIndex[cursor1];
+            } else {
+                System.arraycopy(tmpKeys, cursor1, keys, dest, len1);
+                System.arraycopy(tmpIndex, cursor1, index, dest, len1);
+            }
+        }
+        
+        // Merge da direita para a esquerda, com o run2 (menor) copiado para o buffer
+        private void mergeHi(int base1, int len1, int base2, int len2) {
+            OperationCounters.moves(len1 + 2L * len2);
+            System.arraycopy(keys, base2, tmpKeys, 0, len2);
+            System.arraycopy(index, base2, tmpIndex, 0, len2);
+            int cursor1 = base1 + len1 - 1;
+            int cursor2 = len2 - 1;
+            int dest = base2 + len2 - 1;
+            
+            keys[dest] = keys[cursor1];
+            index[dest--] = index[cursor1--];
+            if (--len1 == 0) {
+                System.arraycopy(tmpKeys, 0, keys, dest - (len2 - 1), len2);
+                System.arraycopy(tmpIndex, 0, index, dest - (len2 - 1), len2);
+                return;
+            }
+            if (len2 == 1) {
+                dest -= len1;
+                cursor1 -= len1;
+                System.arraycopy(keys, cursor1 + 1, keys, dest + 1, len1);
+                System.arraycopy(index, cursor1 + 1, index, dest + 1, len1);
+                keys[dest] = tmpKeys[cursor2];
+                index[dest] = tmpIndex[cursor2];
+                return;
+            }
+            
+            int minGallop = this.minGallop;
+            outer:
+            while (true) {
+                int count1 = 0;
+                int count2 = 0;
+                
+                do {
+                    if (OperationCounters.less(tmpKeys[cursor2], keys[cursor1])) {
+                        keys[dest] = keys[cursor1];
+                        index[dest--] = index[cursor1--];
+                        count1++;
+                        count2 = 0;
+                        if (--len1 == 0) break outer;
+                    } else {
+                        keys[dest] = tmpKeys[cursor2];
+                        index[dest--] = tmpIndex[cursor2--];
+                        count2++;
+                        count1 = 0;
+                        if (--len2 == 1) break outer;
+                    }
+                } while ((count1 | count2) < minGallop);
+                
+                do {
+                    count1 = len1 - gallopRight(tmpKeys[cursor2], keys, base1, len1, len1 - 1);
+                    if (count1 != 0) {
+                        dest -= count1;
+                        cursor1 -= count1;
+                        len1 -= count1;
+                        System.arraycopy(keys, cursor1 + 1, keys, dest + 1, count1);
+                        System.arraycopy(index, cursor1 + 1, index, dest + 1, count1);
+                        if (len1 == 0) break outer;
+                    }
+                    keys[dest] = tmpKeys[cursor2];
+                    index[dest--] = tmpIndex[cursor2--];
+                    if (--len2 == 1) break outer;
+                    
+                    count2 = len2 - gallopLeft(keys[cursor1], tmpKeys, 0, len2, len2 - 1);
+                    if (count2 != 0) {
+                        dest -= count2;
+                        cursor2 -= count2;
+                        len2 -= count2;
+                        System.arraycopy(tmpKeys, cursor2 + 1, keys, dest + 1, count2);
+                        System.arraycopy(tmpIndex, cursor2 + 1, index, dest + 1, count2);
+                        if (len2 <= 1) break outer;
+                    }
+                    keys[dest] = keys[cursor1];
+                    index[dest--] = index[cursor1--];
+                    if (--len1 == 0) break outer;
+                    minGallop--;
+                } while (count1 >= MIN_GALLOP | count2 >= MIN_GALLOP);
+                
+                if (minGallop < 0) minGallop = 0;
+                minGallop += 2;
+            }
+            this.minGallop = minGallop < 1 ? 1 : minGallop;
+            
+            if (len2 == 1) {
+                dest -= len1;
+                cursor1 -= len1;
+                System.arraycopy(keys, cursor1 + 1, keys, dest + 1, len1);
+                System.arraycopy(index, cursor1 + 1, index, dest + 1, len1);
+                keys[dest] = tmpKeys[cursor2];
+                index[dest] = tmpIndex[cursor2];
+            } else {
+                System.arraycopy(tmpKeys, 0, keys, dest - (len2 - 1), len2);
+                System.arraycopy(tmpIndex, 0, index, dest - (len2 - 1), len2);
+            }
         }
     }
     
@@ -68,16 +466,21 @@ public class TimSort implements SortingAlgorithm {
     
     @Override
     public String getDescription() {
-        return "Algoritmo híbrido derivado do merge sort e insertion sort, usado no Python e Java";
+        return "Algoritmo híbrido adaptativo: detecta runs naturais, estende com insertion sort binário e intercala com galloping";
     }
     
     @Override
     public String getTimeComplexity() {
-        return "O(n log n)";
+        return "O(n) melhor caso, O(n log n) pior caso";
     }
     
     @Override
     public String getSpaceComplexity() {
         return "O(n)";
     }
+    
+    @Override
+    public boolean isStable() {
+        return true;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,88 @@
+import java.util.*;
+
+// Seleção parcial: os k primeiros pelo critério sem ordenar a lista inteira.
+// Introselect sobre as chaves primitivas deixa os k menores no prefixo e só
+// esse prefixo é ordenado: O(n + k log k) em vez de O(n log n).
+public class TopK {
+    private static final int SMALL_RANGE = 16;
+    
+    private TopK() {
+    }
+    
+    public static List<SatelliteImage> select(List<SatelliteImage> images, String sortCriteria, int k) {
+        int n = images == null ? 0 : images.size();
+        k = Math.min(k, n);
+        if (k <= 0) return new ArrayList<>();
+        
+        SortKeys sortKeys = SortKeys.extract(images, sortCriteria);
+        long[] keys = sortKeys.keys;
+        int[] index = sortKeys.index;
+        
+        if (k < n) {
+            select(keys, index, 0, n - 1, k - 1);
+        }
+        
+        // Chaves não exatas: os empatados com a k-ésima chave que ficaram fora do prefixo
+        // entram nele, para que o desempate pelo comparador escolha entre todos eles
+        int limit = k;
+        if (!sortKeys.exact) {
+            long boundary = keys[k - 1];
+            for (int i = k; i < n; i++) {
+                if (keys[i] == boundary) swap(keys, index, i, limit++);
+            }
+        }
+        
+        QuickSort.sortRange(keys, index, 0, limit - 1);
+        return sortKeys.head(k, limit);
+    }
+    
+    // Quickselect com partição de 3 vias (bom com muitas duplicatas, ex.: quality);
+    // se a profundidade passar de 2·log2(n) ordena o trecho restante e garante O(n log n)
+    static void select(long[] keys, int[] index, int low, int high, int nth) {
+        int depthLimit = 2 * (32 - Integer.numberOfLeadingZeros(high - low + 1));
+        
+        while (high - low > SMALL_RANGE) {
+            if (depthLimit-- == 0) break;
+            
+            long pivot = medianOfThree(keys[low], keys[(low + high) >>> 1], keys[high]);
+            int lt = low, i = low, gt = high;
+            while (i <= gt) {
+                if (OperationCounters.less(keys[i], pivot)) {
+                    swap(keys, index, lt++, i++);
+                } else if (OperationCounters.less(pivot, keys[i])) {
+                    swap(keys, index, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+            
+            if (nth < lt) {
+                high = lt - 1;
+            } else if (nth > gt) {
+                low = gt + 1;
+            } else {
+                return;
+            }
+        }
+        QuickSort.sortRange(keys, index, low, high);
+    }
+    
+    private static long medianOfThree(long a, long b, long c) {
+        if (OperationCounters.less(a, b)) {
+            if (OperationCounters.less(b, c)) return b;
+            return OperationCounters.less(a, c) ? c : a;
+        }
+        if (OperationCounters.less(a, c)) return a;
+        return OperationCounters.less(b, c) ? c : b;
+    }
+    
+    private static void swap(long[] keys, int[] index, int i, int j) {
+        OperationCounters.swap();
+        long key = keys[i];
+        keys[i] = keys[j];
+        keys[j] = key;
+        int idx = index[i];
+        index[i] = index[j];
+        index[j] = idx;
+    }
+}
\ No newline at end of file